@@ -0,0 +1,54 @@
+package com.example.caffein_addiction_app.token;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+//JwtAuthenticationFilter.doFilterInternal 전체 경로 (mock request)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"valid", "expired", "malformed", "none"})
+    public String tokenType;
+
+    @Param({"false", "true"})
+    public boolean accessCacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain filterChain = (servletRequest, servletResponse) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = JwtFixtures.provider(accessCacheEnabled);
+        filter = new JwtAuthenticationFilter(jwtProvider);
+
+        request = new MockHttpServletRequest("GET", "/api/auth/user/info");
+        request.setRemoteAddr("127.0.0.1");
+
+        String token = switch (tokenType) {
+            case "valid" -> jwtProvider.createAccessKey(1);
+            case "expired" -> JwtFixtures.expiredAccessToken(1);
+            case "malformed" -> JwtFixtures.MALFORMED_TOKEN;
+            default -> null;
+        };
+        if (token != null) request.addHeader("Authorization", "Bearer " + token);
+
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterInternal() throws Exception {
+        response.reset();
+        filter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
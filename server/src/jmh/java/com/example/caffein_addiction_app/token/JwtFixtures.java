@@ -0,0 +1,44 @@
+package com.example.caffein_addiction_app.token;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+//벤치마크용 JwtProvider / 토큰 생성 (스프링 컨텍스트 없이)
+final class JwtFixtures {
+
+    static final String ACCESS_KEY = "YmVuY2htYXJrLWFjY2Vzcy1rZXktYmVuY2htYXJrLWFjY2Vzcy1rZXk=";
+    static final String REFRESH_KEY = "YmVuY2htYXJrLXJlZnJlc2gta2V5LWJlbmNobWFyay1yZWZyZXNoLWtleQ==";
+
+    static final String MALFORMED_TOKEN = "eyJhbGciOiJIUzI1NiJ9.not-a-payload.not-a-signature";
+
+    private JwtFixtures() {
+    }
+
+    static JwtProvider provider(boolean accessCacheEnabled) {
+        JwtProvider jwtProvider = new JwtProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtProvider, "accessKey", ACCESS_KEY);
+        ReflectionTestUtils.setField(jwtProvider, "refreshKey", REFRESH_KEY);
+        ReflectionTestUtils.setField(jwtProvider, "accessCacheEnabled", accessCacheEnabled);
+        ReflectionTestUtils.setField(jwtProvider, "accessCacheMaxSize", 10000);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    static String expiredAccessToken(Integer id) {
+        Date issuedAt = Date.from(Instant.now().minus(2, ChronoUnit.HOURS));
+        Date expiredDate = Date.from(Instant.now().minus(1, ChronoUnit.HOURS));
+
+        return Jwts.builder()
+                .signWith(new SecretKeySpec(Decoders.BASE64.decode(ACCESS_KEY), SignatureAlgorithm.HS256.getJcaName()), SignatureAlgorithm.HS256)
+                .setSubject(id.toString()).setIssuedAt(issuedAt).setExpiration(expiredDate)
+                .compact();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.caffein_addiction_app.token;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean accessCacheEnabled;
+
+    private JwtProvider jwtProvider;
+    private String validAccessToken;
+    private String expiredAccessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = JwtFixtures.provider(accessCacheEnabled);
+        validAccessToken = jwtProvider.createAccessKey(1);
+        expiredAccessToken = JwtFixtures.expiredAccessToken(1);
+        refreshToken = jwtProvider.createRefreshKey(1);
+    }
+
+    @Benchmark
+    public String createAccessKey() {
+        return jwtProvider.createAccessKey(1);
+    }
+
+    @Benchmark
+    public TokenValidationResult checkAccessTokenValid() {
+        return jwtProvider.checkAccessToken(validAccessToken);
+    }
+
+    @Benchmark
+    public TokenValidationResult checkAccessTokenExpired() {
+        return jwtProvider.checkAccessToken(expiredAccessToken);
+    }
+
+    @Benchmark
+    public TokenValidationResult checkAccessTokenMalformed() {
+        return jwtProvider.checkAccessToken(JwtFixtures.MALFORMED_TOKEN);
+    }
+
+    @Benchmark
+    public Duration getRemainingValidity() {
+        return jwtProvider.getRemainingValidity(refreshToken);
+    }
+}
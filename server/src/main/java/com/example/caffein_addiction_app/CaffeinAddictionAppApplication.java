@@ -2,8 +2,13 @@ package com.example.caffein_addiction_app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+//기본 설정값, 우선순위가 가장 낮아 application.yml 등에서 덮어씀
+@PropertySource("classpath:defaults.properties")
 public class CaffeinAddictionAppApplication {
 
 	public static void main(String[] args) {
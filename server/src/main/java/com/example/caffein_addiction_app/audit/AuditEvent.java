@@ -0,0 +1,5 @@
+package com.example.caffein_addiction_app.audit;
+
+//userId / email은 없으면 null
+record AuditEvent(long timestamp, AuditEventType type, Integer userId, String email) {
+}
@@ -0,0 +1,13 @@
+package com.example.caffein_addiction_app.audit;
+
+public enum AuditEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    LOGIN_RATE_LIMITED,
+    TOKEN_ROTATED,
+    //이미 교체/로그아웃된 refresh token 재사용 (탈취 의심)
+    REFRESH_TOKEN_REUSED,
+    REFRESH_TOKEN_MISMATCH,
+    LOGOUT,
+    PROFILE_EDITED
+}
@@ -0,0 +1,150 @@
+package com.example.caffein_addiction_app.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+//인증 관련 보안 이벤트를 append-only JSON lines 파일로 기록 (DB/redis 오류 등은 기존대로 각 catch에서 출력)
+//요청 스레드는 ring buffer에 넣기만 하고 (가득 차면 버리고 dropped 증가) 파일 쓰기는 writer 스레드가 batch로 처리
+@Component
+@RequiredArgsConstructor
+public class AuditLog {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audit.file:logs/auth-audit.log}")
+    private String file;
+
+    @Value("${audit.buffer-size:8192}")
+    private int bufferSize;
+
+    @Value("${audit.batch-size:256}")
+    private int batchSize;
+
+    @Value("${audit.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private AuditRingBuffer<AuditEvent> buffer;
+    private Counter dropped;
+    private Counter written;
+    private Counter writeFailures;
+
+    private Writer writer;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) return;
+
+        buffer = new AuditRingBuffer<>(bufferSize);
+
+        Path path = Path.of(file);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+
+        dropped = Counter.builder("auth.audit.dropped").register(meterRegistry);
+        written = Counter.builder("auth.audit.written").register(meterRegistry);
+        writeFailures = Counter.builder("auth.audit.write.failures").register(meterRegistry);
+        Gauge.builder("auth.audit.buffer.size", buffer, AuditRingBuffer::size).register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        if (!enabled) return;
+
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void record(AuditEventType type, Integer userId, String email) {
+        offer(new AuditEvent(System.currentTimeMillis(), type, userId, email));
+    }
+
+    private void offer(AuditEvent event) {
+        if (!enabled) return;
+        if (!buffer.offer(event)) dropped.increment();
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (running) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+            writeBatch(batch);
+        }
+
+        //종료 시 남은 이벤트 기록
+        while (buffer.drainTo(batch, batchSize) > 0) writeBatch(batch);
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void writeBatch(List<AuditEvent> batch) {
+        try {
+            for (AuditEvent event : batch) writeLine(event);
+            writer.flush();
+            written.increment(batch.size());
+        } catch (IOException e) {
+            writeFailures.increment(batch.size());
+            e.printStackTrace();
+        }
+        batch.clear();
+    }
+
+    private void writeLine(AuditEvent event) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(writer);
+        //파일 flush는 batch 단위로만
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+        generator.writeStartObject();
+        generator.writeStringField("timestamp", Instant.ofEpochMilli(event.timestamp()).toString());
+        generator.writeStringField("type", event.type().name());
+        if (event.userId() != null) generator.writeNumberField("userId", event.userId());
+        if (event.email() != null) generator.writeStringField("email", event.email());
+        generator.writeEndObject();
+        generator.close();
+
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.caffein_addiction_app.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+//고정 크기 lock-free 큐 (생산자 여럿, 소비자 하나)
+//slot마다 sequence를 두고 생산자는 tail CAS로 자리 확보 -> 가득 차면 기다리지 않고 false
+final class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+    private final int capacity;
+
+    //소비자 스레드만 접근
+    private long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        mask = capacity - 1;
+        entries = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) sequences.set(i, i);
+    }
+
+    boolean offer(E element) {
+        long position;
+        int index;
+
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference < 0) return false;
+            if (difference == 0 && tail.compareAndSet(position, position + 1)) break;
+        }
+
+        entries.set(index, element);
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    //최대 max개를 batch에 옮김 -> 옮긴 개수
+    int drainTo(List<E> batch, int max) {
+        int drained = 0;
+
+        while (drained < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) break;
+
+            batch.add(entries.get(index));
+            entries.lazySet(index, null);
+            sequences.lazySet(index, head + capacity);
+            head++;
+            drained++;
+        }
+
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.caffein_addiction_app.auth.controller;
+
+import com.example.caffein_addiction_app.auth.service.UserProvisioningService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class UserProvisioningController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final UserProvisioningService userProvisioningService;
+
+    //요청: RegisterRequestDto 형식 NDJSON, 응답: 레코드별 결과 NDJSON
+    @PostMapping(value = "/bulk", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<?> bulkRegister(HttpServletRequest request) throws IOException {
+        InputStream input = request.getInputStream();
+        StreamingResponseBody body = output -> userProvisioningService.provision(input, output);
+
+        return ResponseEntity.ok().body(body);
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.caffein_addiction_app.auth.dto.response;
 
-import com.example.caffein_addiction_app.auth.entity.User;
 import com.example.caffein_addiction_app.common.ResponseDto;
 import com.example.caffein_addiction_app.common.ResponseMessage;
 import com.example.caffein_addiction_app.common.ResponseStatus;
@@ -11,14 +10,14 @@ import org.springframework.http.ResponseEntity;
 @Getter
 public class GetUserInfoResponseDto extends ResponseDto {
 
-    private User user;
+    private UserProfileDto user;
 
-    private GetUserInfoResponseDto(User user) {
+    private GetUserInfoResponseDto(UserProfileDto user) {
         super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
         this.user = user;
     }
 
-    public static ResponseEntity<GetUserInfoResponseDto> success(User user) {
+    public static ResponseEntity<GetUserInfoResponseDto> success(UserProfileDto user) {
         GetUserInfoResponseDto result = new GetUserInfoResponseDto(user);
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
@@ -1,5 +1,6 @@
 package com.example.caffein_addiction_app.auth.dto.response;
 
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
 import com.example.caffein_addiction_app.common.ResponseDto;
 import com.example.caffein_addiction_app.common.ResponseMessage;
 import com.example.caffein_addiction_app.common.ResponseStatus;
@@ -12,6 +13,9 @@ import org.springframework.http.ResponseEntity;
 @Getter
 public class LogOutResponseDto extends ResponseDto {
 
+    private static final ResponseEntity<Object> INVALID_TOKEN =
+            PreEncodedResponse.entity(HttpStatus.FORBIDDEN, 403, ResponseStatus.INVALID_TOKEN, ResponseMessage.INVALID_TOKEN);
+
     private LogOutResponseDto(){super(200,ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);}
 
     public static ResponseEntity<LogOutResponseDto> success(){
@@ -29,8 +33,7 @@ public class LogOutResponseDto extends ResponseDto {
         return ResponseEntity.status(HttpStatus.OK).header(HttpHeaders.SET_COOKIE, cookie.toString()).body(result);
     }
 
-    public static ResponseEntity<ResponseDto> invalidToken(){
-        ResponseDto result = new ResponseDto(403, ResponseStatus.INVALID_TOKEN, ResponseMessage.INVALID_TOKEN);
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(result);
+    public static ResponseEntity<Object> invalidToken(){
+        return INVALID_TOKEN;
     }
 }
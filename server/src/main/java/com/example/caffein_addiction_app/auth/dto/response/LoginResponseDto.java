@@ -1,5 +1,6 @@
 package com.example.caffein_addiction_app.auth.dto.response;
 
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
 import com.example.caffein_addiction_app.common.ResponseDto;
 import com.example.caffein_addiction_app.common.ResponseMessage;
 import com.example.caffein_addiction_app.common.ResponseStatus;
@@ -14,6 +15,9 @@ import java.time.Duration;
 @Getter
 public class LoginResponseDto extends ResponseDto {
 
+    private static final ResponseEntity<Object> LOGIN_FAIL =
+            PreEncodedResponse.entity(HttpStatus.UNAUTHORIZED, 401, ResponseStatus.LOG_IN_FAIL, ResponseMessage.LOG_IN_FAIL);
+
     private String token;
 
     private LoginResponseDto(String token){
@@ -35,9 +39,8 @@ public class LoginResponseDto extends ResponseDto {
         return ResponseEntity.status(HttpStatus.OK).header(HttpHeaders.SET_COOKIE, cookie.toString()).body(result);
     }
 
-    public static ResponseEntity<ResponseDto> loginFail(){
-        ResponseDto result = new ResponseDto(401, ResponseStatus.LOG_IN_FAIL, ResponseMessage.LOG_IN_FAIL);
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
+    public static ResponseEntity<Object> loginFail(){
+        return LOGIN_FAIL;
     }
 
 }
@@ -0,0 +1,15 @@
+package com.example.caffein_addiction_app.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//bulk 등록 결과 한 줄 (입력 순서 index 기준)
+@Getter
+@AllArgsConstructor
+public class ProvisioningResultDto {
+
+    private Integer index;
+    private String email;
+    private Integer id;
+    private String status;
+}
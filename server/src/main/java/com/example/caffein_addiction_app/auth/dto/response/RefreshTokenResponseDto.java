@@ -1,5 +1,6 @@
 package com.example.caffein_addiction_app.auth.dto.response;
 
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
 import com.example.caffein_addiction_app.common.ResponseDto;
 import com.example.caffein_addiction_app.common.ResponseMessage;
 import com.example.caffein_addiction_app.common.ResponseStatus;
@@ -14,6 +15,11 @@ import java.time.Duration;
 @Getter
 public class RefreshTokenResponseDto extends ResponseDto {
 
+    private static final ResponseEntity<Object> INVALID_REFRESH_TOKEN =
+            PreEncodedResponse.entity(HttpStatus.FORBIDDEN, 403, ResponseStatus.INVALID_REFRESH_TOKEN, ResponseMessage.INVALID_REFRESH_TOKEN);
+    private static final ResponseEntity<Object> EXPIRED_REFRESH_TOKEN =
+            PreEncodedResponse.entity(HttpStatus.UNAUTHORIZED, 401, ResponseStatus.EXPIRED_REFRESH_TOKEN, ResponseMessage.EXPIRED_REFRESH_TOKEN);
+
     private String newToken;
 
     private RefreshTokenResponseDto(String newToken){
@@ -35,13 +41,11 @@ public class RefreshTokenResponseDto extends ResponseDto {
         return ResponseEntity.status(HttpStatus.OK).header(HttpHeaders.SET_COOKIE, cookie.toString()).body(result);
     }
 
-    public static ResponseEntity<ResponseDto> invalidRefreshToken(){
-        ResponseDto result = new ResponseDto(403,ResponseStatus.INVALID_REFRESH_TOKEN, ResponseMessage.INVALID_REFRESH_TOKEN);
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(result);
+    public static ResponseEntity<Object> invalidRefreshToken(){
+        return INVALID_REFRESH_TOKEN;
     }
 
-    public static ResponseEntity<ResponseDto> expiredRefreshToken(){
-        ResponseDto result = new ResponseDto(401, ResponseStatus.EXPIRED_REFRESH_TOKEN, ResponseMessage.EXPIRED_REFRESH_TOKEN);
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
+    public static ResponseEntity<Object> expiredRefreshToken(){
+        return EXPIRED_REFRESH_TOKEN;
     }
 }
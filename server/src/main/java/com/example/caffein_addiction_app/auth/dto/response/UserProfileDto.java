@@ -0,0 +1,21 @@
+package com.example.caffein_addiction_app.auth.dto.response;
+
+import com.example.caffein_addiction_app.auth.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//비밀번호 해시를 제외한 프로필 (캐시/응답용)
+@Getter
+@AllArgsConstructor
+public class UserProfileDto {
+
+    private Integer id;
+    private String email;
+    private String name;
+    private Float weight;
+    private Integer dailyCaffeineLimit;
+
+    public static UserProfileDto from(User user) {
+        return new UserProfileDto(user.getId(), user.getEmail(), user.getName(), user.getWeight(), user.getDailyCaffeineLimit());
+    }
+}
@@ -13,8 +13,12 @@ import lombok.Setter;
 @NoArgsConstructor
 public class User {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    //IDENTITY는 insert batching이 안됨 -> pooled sequence (MySQL에서는 users_seq 테이블로 동작)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = User.ID_ALLOCATION_SIZE)
     private Integer id;
 
     @Column(name = "email")
@@ -1,11 +1,14 @@
 package com.example.caffein_addiction_app.auth.repository;
 
 import com.example.caffein_addiction_app.auth.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
@@ -13,4 +16,6 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     User findByEmail(String email);
     @Query(value = "SELECT id FROM users WHERE email = :email", nativeQuery = true)
     Integer findIdByEmail(@Param("email")String email);
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
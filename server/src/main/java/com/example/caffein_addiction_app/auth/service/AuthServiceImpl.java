@@ -1,24 +1,25 @@
 package com.example.caffein_addiction_app.auth.service;
 
+import com.example.caffein_addiction_app.audit.AuditEventType;
+import com.example.caffein_addiction_app.audit.AuditLog;
 import com.example.caffein_addiction_app.auth.dto.request.EditUserInfoRequestDto;
 import com.example.caffein_addiction_app.auth.dto.request.LoginRequestDto;
 import com.example.caffein_addiction_app.auth.dto.request.RegisterRequestDto;
 import com.example.caffein_addiction_app.auth.dto.response.*;
 import com.example.caffein_addiction_app.auth.entity.User;
 import com.example.caffein_addiction_app.auth.repository.UserRepository;
+import com.example.caffein_addiction_app.ratelimit.RateLimiter;
 import com.example.caffein_addiction_app.token.JwtProvider;
-import io.jsonwebtoken.ExpiredJwtException;
+import com.example.caffein_addiction_app.token.TokenValidationResult;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 @RequiredArgsConstructor
@@ -28,8 +29,10 @@ public class AuthServiceImpl implements AuthService{
     private final JwtProvider jwtProvider;
     private final RefreshTokenService refreshTokenService;
     private final RefreshTokenBlacklistService blacklistService;
-
-    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHashingService passwordHashingService;
+    private final UserProfileCache userProfileCache;
+    private final RateLimiter rateLimiter;
+    private final AuditLog auditLog;
 
     @Override
     public ResponseEntity<? super RegisterResponseDto> register(RegisterRequestDto dto){
@@ -38,10 +41,12 @@ public class AuthServiceImpl implements AuthService{
             boolean existedEmail = userRepository.existsByEmail(dto.getEmail());
             if(existedEmail) return RegisterResponseDto.duplicateEmail();
 
-            String encodedPassword = passwordEncoder.encode(dto.getPassword());
+            String encodedPassword = passwordHashingService.encode(dto.getPassword());
 
             User user = new User(dto, encodedPassword);
             userRepository.save(user);
+        } catch (RejectedExecutionException e){
+            return RegisterResponseDto.serverBusy();
         } catch (Exception e){
             e.printStackTrace();
             return RegisterResponseDto.databaseError();
@@ -56,16 +61,38 @@ public class AuthServiceImpl implements AuthService{
         String accessToken = null;
         String refreshToken = null;
 
+        //IP를 바꿔가며 한 계정에 시도하는 경우 (IP 기준은 RateLimitFilter)
+        String email = dto.getEmail();
+        if(!rateLimiter.tryAcquire(RateLimiter.Policy.LOGIN_EMAIL, email)) {
+            auditLog.record(AuditEventType.LOGIN_RATE_LIMITED, null, email);
+            return LoginResponseDto.tooManyRequests();
+        }
+
         try{
-            String email = dto.getEmail();
             User user = userRepository.findByEmail(email);
-            if(user == null) return LoginResponseDto.loginFail();
+            if(user == null) {
+                auditLog.record(AuditEventType.LOGIN_FAILURE, null, email);
+                return LoginResponseDto.loginFail();
+            }
 
             String password = dto.getPassword();
             String encodedPassword = user.getPassword();
 
-            boolean isMatched = passwordEncoder.matches(password, encodedPassword);
-            if(!isMatched) return LoginResponseDto.loginFail();
+            boolean isMatched = passwordHashingService.matches(password, encodedPassword);
+            if(!isMatched) {
+                auditLog.record(AuditEventType.LOGIN_FAILURE, user.getId(), email);
+                return LoginResponseDto.loginFail();
+            }
+
+            //cost가 바뀐 해시는 로그인 성공 시 다시 해싱 (바쁘면 다음 로그인으로 미룸)
+            if(passwordHashingService.needsRehash(encodedPassword)) {
+                try {
+                    user.setPassword(passwordHashingService.encode(password));
+                    userRepository.save(user);
+                } catch (RejectedExecutionException e) {
+                    user.setPassword(encodedPassword);
+                }
+            }
 
             Integer userId = user.getId();
 
@@ -74,6 +101,9 @@ public class AuthServiceImpl implements AuthService{
 
             //redis에 refresh token 저장
             refreshTokenService.saveToken(userId, refreshToken);
+            auditLog.record(AuditEventType.LOGIN_SUCCESS, userId, email);
+        }catch (RejectedExecutionException e){
+            return LoginResponseDto.serverBusy();
         }catch (Exception e){
             e.printStackTrace();
             return LoginResponseDto.databaseError();
@@ -97,38 +127,34 @@ public class AuthServiceImpl implements AuthService{
 
         if (refreshToken == null) return RefreshTokenResponseDto.invalidRefreshToken();
 
-        Integer userId;
+        TokenValidationResult validation = jwtProvider.checkRefreshToken(refreshToken);
+        if (validation.isExpired()) return RefreshTokenResponseDto.expiredRefreshToken();
+        if (!validation.isValid()) return RefreshTokenResponseDto.invalidRefreshToken();
 
-        try {
-            userId = jwtProvider.validateRefreshToken(refreshToken);
-        } catch (ExpiredJwtException e) {
-            e.printStackTrace();
-            return RefreshTokenResponseDto.expiredRefreshToken();
-        } catch (Exception e) {
-            e.printStackTrace();
-            return RefreshTokenResponseDto.invalidRefreshToken();
-        }
-
-        if (userId == null) return RefreshTokenResponseDto.invalidRefreshToken();
-
-        //redis에서 refresh token 가져옴
-        Optional<String> refreshTokenOpt = refreshTokenService.getToken(userId);
-        if(refreshTokenOpt.isEmpty()) return RefreshTokenResponseDto.invalidRefreshToken();
-
-        String storedRefreshToken = refreshTokenOpt.get();
-        if(!storedRefreshToken.equals(refreshToken)) return RefreshTokenResponseDto.invalidRefreshToken();
-
-        //이미 사용된 토큰
-        if (blacklistService.isBlacklisted(refreshToken)) return RefreshTokenResponseDto.invalidRefreshToken();
+        Integer userId = validation.getUserId();
 
         String newAccessToken = jwtProvider.createAccessKey(userId);
         String newRefreshToken = jwtProvider.createRefreshKey(userId);
 
-        //블랙리스트에 현재 refresh token 추가
-        Duration remaining = jwtProvider.getRemainingValidity(refreshToken);
-        blacklistService.blacklistToken(refreshToken, remaining);
+        //저장된 토큰 비교 + 블랙리스트 확인/추가 + 새 토큰 저장을 redis에서 원자적으로 처리
+        try {
+            Duration remaining = validation.getRemainingValidity();
+            RefreshTokenService.RotationResult result = refreshTokenService.rotateToken(userId, refreshToken, newRefreshToken, remaining);
+
+            if (result == RefreshTokenService.RotationResult.BLACKLISTED) {
+                auditLog.record(AuditEventType.REFRESH_TOKEN_REUSED, userId, null);
+                return RefreshTokenResponseDto.invalidRefreshToken();
+            }
+            if (result == RefreshTokenService.RotationResult.MISMATCH) {
+                auditLog.record(AuditEventType.REFRESH_TOKEN_MISMATCH, userId, null);
+                return RefreshTokenResponseDto.invalidRefreshToken();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            return RefreshTokenResponseDto.databaseError();
+        }
 
-        refreshTokenService.saveToken(userId, newRefreshToken);
+        auditLog.record(AuditEventType.TOKEN_ROTATED, userId, null);
 
         return RefreshTokenResponseDto.success(newAccessToken, newRefreshToken);
     }
@@ -146,23 +172,16 @@ public class AuthServiceImpl implements AuthService{
         accessToken = bearer.substring(7);
         if(accessToken == null) return LogOutResponseDto.invalidToken();
 
-        Integer userIdFromAccessToken;
+        TokenValidationResult accessValidation = jwtProvider.checkAccessToken(accessToken);
+        if(!accessValidation.isValid()) return LogOutResponseDto.invalidToken();
 
-        try {
-            userIdFromAccessToken = jwtProvider.validateAccessToken(accessToken);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return LogOutResponseDto.invalidToken();
-        }
-
-        if(userIdFromAccessToken == null) return LogOutResponseDto.invalidToken();
+        Integer userIdFromAccessToken = accessValidation.getUserId();
 
         String refreshToken = null;
         if(request.getCookies()!=null) {
             for (Cookie cookie : request.getCookies()) {
                 if (cookie.getName().equals("refreshToken")) {
                     refreshToken = cookie.getValue();
-                    System.out.println(refreshToken);
                     break;
                 }
             }
@@ -170,20 +189,15 @@ public class AuthServiceImpl implements AuthService{
 
         if(refreshToken == null) return LogOutResponseDto.invalidToken();
 
-        Integer userIdFromRefreshToken;
-
-        try {
-            userIdFromRefreshToken = jwtProvider.validateRefreshToken(refreshToken);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return LogOutResponseDto.invalidToken();
-        }
-
-        if(userIdFromRefreshToken == null) return LogOutResponseDto.invalidToken();
+        TokenValidationResult refreshValidation = jwtProvider.checkRefreshToken(refreshToken);
+        if(!refreshValidation.isValid()) return LogOutResponseDto.invalidToken();
 
 
         //이미 그 전에 로그아웃한 경우 -> 블랙리스트에 refresh token 들어가 있음
-        if (blacklistService.isBlacklisted(refreshToken)) return LogOutResponseDto.invalidToken();
+        if (blacklistService.isBlacklisted(refreshToken)) {
+            auditLog.record(AuditEventType.REFRESH_TOKEN_REUSED, userIdFromAccessToken, null);
+            return LogOutResponseDto.invalidToken();
+        }
 
         //redis에서 refresh token 삭제
         try {
@@ -195,7 +209,7 @@ public class AuthServiceImpl implements AuthService{
 
         //블랙리스트에 refresh token 추가
         try {
-            Duration remaining = jwtProvider.getRemainingValidity(refreshToken);
+            Duration remaining = refreshValidation.getRemainingValidity();
             if (!remaining.isZero()) {
                 blacklistService.blacklistToken(refreshToken, remaining);
             }
@@ -204,6 +218,7 @@ public class AuthServiceImpl implements AuthService{
             return LogOutResponseDto.databaseError();
         }
 
+        auditLog.record(AuditEventType.LOGOUT, userIdFromAccessToken, null);
 
         return LogOutResponseDto.success();
     }
@@ -211,20 +226,18 @@ public class AuthServiceImpl implements AuthService{
     @Override
     public ResponseEntity<? super GetUserInfoResponseDto> getUserInfo(Integer userId) {
 
-        User user = null;
+        UserProfileDto profile;
 
         try {
-            Optional<User> userOpt = userRepository.findById(userId);
-            if(userOpt.isEmpty()) return GetUserInfoResponseDto.notExistedUser();
-
-            user = userOpt.get();
+            profile = userProfileCache.getOrLoad(userId, userRepository::findById);
+            if (profile == null) return GetUserInfoResponseDto.notExistedUser();
 
         } catch (Exception e) {
             e.printStackTrace();
             return GetUserInfoResponseDto.databaseError();
         }
 
-        return GetUserInfoResponseDto.success(user);
+        return GetUserInfoResponseDto.success(profile);
     }
 
     @Override
@@ -247,6 +260,9 @@ public class AuthServiceImpl implements AuthService{
             if (dto.getWeight() != null) user.setWeight(dto.getWeight());
             if (dto.getDailyCaffeineLimit() != null) user.setDailyCaffeineLimit(dto.getDailyCaffeineLimit());
 
+            //캐시 제거 (commit 후 다른 인스턴스에도 전파)
+            userProfileCache.evict(userId);
+
 
             //transactional이 자동으로 update해줌
 //            user.editUserInfo(dto);
@@ -256,6 +272,8 @@ public class AuthServiceImpl implements AuthService{
             return EditUserInfoResponseDto.databaseError();
         }
 
+        auditLog.record(AuditEventType.PROFILE_EDITED, userId, null);
+
         return EditUserInfoResponseDto.success();
     }
 }
@@ -0,0 +1,73 @@
+package com.example.caffein_addiction_app.auth.service;
+
+import com.example.caffein_addiction_app.auth.dto.request.EditUserInfoRequestDto;
+import com.example.caffein_addiction_app.auth.dto.request.LoginRequestDto;
+import com.example.caffein_addiction_app.auth.dto.request.RegisterRequestDto;
+import com.example.caffein_addiction_app.auth.dto.response.*;
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+//AuthService 메서드별 timer (auth.service, tag: operation, status)
+//status = 응답의 status 코드 (SU, LF, IRT, DBE ...), 예외로 끝나면 EXCEPTION
+@Service
+@Primary
+@RequiredArgsConstructor
+public class MeteredAuthService implements AuthService {
+
+    private final AuthServiceImpl authService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ResponseEntity<? super RegisterResponseDto> register(RegisterRequestDto dto) {
+        return record("register", () -> authService.register(dto));
+    }
+
+    @Override
+    public ResponseEntity<? super LoginResponseDto> login(LoginRequestDto dto) {
+        return record("login", () -> authService.login(dto));
+    }
+
+    @Override
+    public ResponseEntity<? super RefreshTokenResponseDto> refreshToken(HttpServletRequest request) {
+        return record("refreshToken", () -> authService.refreshToken(request));
+    }
+
+    @Override
+    public ResponseEntity<? super LogOutResponseDto> logout(HttpServletRequest request) {
+        return record("logout", () -> authService.logout(request));
+    }
+
+    @Override
+    public ResponseEntity<? super GetUserInfoResponseDto> getUserInfo(Integer userId) {
+        return record("getUserInfo", () -> authService.getUserInfo(userId));
+    }
+
+    @Override
+    public ResponseEntity<? super EditUserInfoResponseDto> editUserInfo(Integer userId, EditUserInfoRequestDto dto) {
+        return record("editUserInfo", () -> authService.editUserInfo(userId, dto));
+    }
+
+    private <T extends ResponseEntity<?>> T record(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "EXCEPTION";
+
+        try {
+            T response = call.get();
+            status = PreEncodedResponse.statusOf(response.getBody());
+            return response;
+        } finally {
+            sample.stop(Timer.builder("auth.service")
+                    .tag("operation", operation)
+                    .tag("status", status)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.caffein_addiction_app.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//BCrypt 해싱 전용 executor
+//로그인 폭주 시에도 tomcat 스레드가 해싱에 묶이지 않도록 스레드 수 + 큐 길이 제한
+//큐가 가득 차면 RejectedExecutionException -> "busy" 응답
+//bulk 등록은 별도 풀 사용 -> 대량 등록이 로그인 풀의 스레드/큐를 차지하지 않음
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 14;
+
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${password.hashing.timeout-ms:2000}")
+    private long timeoutMillis;
+
+    //bulk 등록 전용 스레드 수 (0이면 코어 수 / 4)
+    @Value("${password.hashing.bulk-threads:0}")
+    private int bulkThreads;
+
+    @Value("${password.hashing.cost:10}")
+    private int configuredCost;
+
+    @Value("${password.hashing.auto-tune:true}")
+    private boolean autoTune;
+
+    //해시 1회에 허용할 시간 -> 이 안에 들어오는 가장 높은 cost 선택
+    @Value("${password.hashing.latency-budget-ms:250}")
+    private long latencyBudgetMillis;
+
+    private final MeterRegistry meterRegistry;
+
+    //auth.bcrypt: 해싱 자체 시간, auth.bcrypt.queue: 큐 대기 시간
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Timer bulkEncodeTimer;
+    private Timer queueTimer;
+    private Counter rejectedCounter;
+
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor bulkExecutor;
+    private PasswordEncoder passwordEncoder;
+    private int cost;
+
+    @PostConstruct
+    void init() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        executor = newPool("password-hashing-", threads > 0 ? threads : Math.max(1, cores / 2), new ArrayBlockingQueue<>(queueCapacity));
+        //chunk 크기 x 동시 bulk 요청 수 이상 쌓이지 않으므로 큐 제한 없음 -> 거절 대신 대기
+        bulkExecutor = newPool("password-hashing-bulk-", bulkThreads > 0 ? bulkThreads : Math.max(1, cores / 4), new LinkedBlockingQueue<>());
+
+        cost = autoTune ? tuneCost() : configuredCost;
+        passwordEncoder = new BCryptPasswordEncoder(cost);
+
+        encodeTimer = Timer.builder("auth.bcrypt").tag("operation", "encode").register(meterRegistry);
+        matchesTimer = Timer.builder("auth.bcrypt").tag("operation", "matches").register(meterRegistry);
+        bulkEncodeTimer = Timer.builder("auth.bcrypt").tag("operation", "bulkEncode").register(meterRegistry);
+        queueTimer = Timer.builder("auth.bcrypt.queue").register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.bcrypt.rejected").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    //bulk 등록용: 전부 먼저 제출한 뒤 순서대로 기다림 (bulk 풀에서 병렬로 해싱)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(bulkExecutor.submit(() -> bulkEncodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword))));
+        }
+
+        List<String> encoded = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) encoded.add(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RejectedExecutionException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException(e.getCause());
+        }
+        return encoded;
+    }
+
+    //저장된 해시의 cost가 현재 cost보다 낮을 때만 로그인 성공 시 다시 해싱
+    //(높은 쪽은 그대로 둠 -> 장비가 다른 노드끼리 같은 사용자를 번갈아 다시 해싱하지 않음)
+    public boolean needsRehash(String encodedPassword) {
+        int storedCost = storedCost(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T submit(Callable<T> task, Timer timer) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            rejectedCounter.increment();
+            future.cancel(true);
+            throw new RejectedExecutionException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RejectedExecutionException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    //고정 크기 daemon 풀, 큐가 가득 차면 RejectedExecutionException
+    private static ThreadPoolExecutor newPool(String namePrefix, int size, BlockingQueue<Runnable> queue) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    //설정된 cost가 하한 -> 느린 노드라도 그보다 낮추지 않음
+    private int tuneCost() {
+        String sample = "cost-tuning-sample";
+        int floor = Math.max(MIN_COST, configuredCost);
+        int chosen = floor;
+
+        //JIT 워밍업
+        new BCryptPasswordEncoder(MIN_COST).encode(sample);
+
+        for (int candidate = floor + 1; candidate <= MAX_COST; candidate++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(candidate).encode(sample);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsedMillis > latencyBudgetMillis) break;
+            chosen = candidate;
+        }
+
+        return chosen;
+    }
+
+    //$2a$10$... 형식에서 cost 추출
+    private static int storedCost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') return -1;
+
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) return -1;
+
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
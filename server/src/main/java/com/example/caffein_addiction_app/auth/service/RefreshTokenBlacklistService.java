@@ -1,27 +1,186 @@
 package com.example.caffein_addiction_app.auth.service;
 
+import com.example.caffein_addiction_app.common.BloomFilter;
+import com.example.caffein_addiction_app.token.TokenDigest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenBlacklistService {
 
     //블랙리스트? -> token rotation을 통해 만료기간은 남아있지만 사용안되는 토큰 악용되지 않게
+    //key = prefix + 토큰 SHA-256 앞 16바이트(base64url 22자), 토큰 원문은 저장하지 않음
     private static final String BLACKLIST_PREFIX = "blacklist:refresh:";
+    public static final String BLACKLIST_VALUE = "1";
+
+    //다른 인스턴스에서 블랙리스트에 추가된 digest 전달
+    public static final String BLACKLIST_CHANNEL = "blacklist:refresh:added";
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blacklist.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${blacklist.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    //로컬 bloom filter에 없으면 "확실히 블랙리스트 아님" -> redis 조회 생략
+    //첫 rebuild 전(null)에는 항상 redis 조회
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingFilter;
+
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    //redis 호출별 timer (auth.redis, tag: operation)
+    private Timer blacklistTimer;
+    private Timer isBlacklistedTimer;
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(
+                (Message message, byte[] pattern) -> markBlacklisted(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(BLACKLIST_CHANNEL));
+
+        blacklistTimer = Timer.builder("auth.redis").tag("operation", "blacklistToken").register(meterRegistry);
+        isBlacklistedTimer = Timer.builder("auth.redis").tag("operation", "isBlacklisted").register(meterRegistry);
+
+        Gauge.builder("refresh.blacklist.bloom.bits.per.entry", this, RefreshTokenBlacklistService::bloomBitsPerEntry)
+                .register(meterRegistry);
+        Gauge.builder("refresh.blacklist.bloom.fpp.expected", this, RefreshTokenBlacklistService::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("refresh.blacklist.bloom.fpp.observed", this, RefreshTokenBlacklistService::observedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("refresh.blacklist.bloom.skipped.lookups", bloomNegatives, LongAdder::sum)
+                .register(meterRegistry);
+    }
 
     public void blacklistToken(String token, Duration ttl) {
-        String key = BLACKLIST_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "true", ttl);
+        String digest = TokenDigest.shortDigest(token);
+        blacklistTimer.record(() -> {
+            redisTemplate.opsForValue().set(BLACKLIST_PREFIX + digest, BLACKLIST_VALUE, ttl);
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, digest);
+        });
+        markBlacklisted(digest);
     }
 
     public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX+token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        byte[] digest = TokenDigest.shortDigestBytes(token);
+
+        BloomFilter filter = bloomFilter;
+        if (filter != null) {
+            if (!mightContain(filter, digest)) {
+                bloomNegatives.increment();
+                return false;
+            }
+        }
+
+        String key = BLACKLIST_PREFIX + TokenDigest.encode(digest);
+        boolean blacklisted = Boolean.TRUE.equals(isBlacklistedTimer.record(() -> redisTemplate.hasKey(key)));
+
+        if (filter != null && !blacklisted) falsePositives.increment();
+
+        return blacklisted;
+    }
+
+    public String keyOf(String token) {
+        return BLACKLIST_PREFIX + TokenDigest.shortDigest(token);
+    }
+
+    //redis에 이미 추가된 digest를 로컬 bloom filter에 반영
+    public void markBlacklisted(String digest) {
+        byte[] bytes;
+        try {
+            bytes = TokenDigest.decode(digest);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        if (bytes.length != TokenDigest.SHORT_DIGEST_BYTES) return;
+
+        BloomFilter filter = bloomFilter;
+        if (filter != null) put(filter, bytes);
+
+        //rebuild 중 들어온 항목도 새 filter에 포함
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) put(rebuilding, bytes);
+    }
+
+    //bloom filter는 삭제가 안되므로 주기적으로 redis에서 다시 만들어 만료된 항목을 털어냄
+    @Scheduled(initialDelay = 0, fixedDelayString = "${blacklist.bloom.rebuild-interval-ms:600000}")
+    public void rebuildBloomFilter() {
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = filter;
+
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        String digest = key.substring(BLACKLIST_PREFIX.length());
+                        //예전 형식(토큰 원문) key는 건너뜀
+                        if (digest.length() != 22) continue;
+                        put(filter, TokenDigest.decode(digest));
+                    }
+                }
+                return null;
+            });
+
+            bloomFilter = filter;
+        } catch (Exception e) {
+            //실패하면 기존 filter 유지
+            e.printStackTrace();
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private double bloomBitsPerEntry() {
+        BloomFilter filter = bloomFilter;
+        if (filter == null || filter.getInsertions() == 0) return 0;
+        return (double) filter.getBitCount() / filter.getInsertions();
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter filter = bloomFilter;
+        return filter == null ? 0 : filter.expectedFalsePositiveRate();
+    }
+
+    //bloom filter가 "있을 수도" 라고 했지만 redis에 없던 비율
+    private double observedFalsePositiveRate() {
+        long notBlacklisted = bloomNegatives.sum() + falsePositives.sum();
+        return notBlacklisted == 0 ? 0 : (double) falsePositives.sum() / notBlacklisted;
+    }
+
+    private static void put(BloomFilter filter, byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        filter.put(buffer.getLong(0), buffer.getLong(8));
+    }
+
+    private static boolean mightContain(BloomFilter filter, byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return filter.mightContain(buffer.getLong(0), buffer.getLong(8));
     }
 }
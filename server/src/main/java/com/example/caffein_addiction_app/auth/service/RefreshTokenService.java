@@ -1,10 +1,16 @@
 package com.example.caffein_addiction_app.auth.service;
 
+import com.example.caffein_addiction_app.token.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -12,23 +18,83 @@ import java.util.Optional;
 public class RefreshTokenService {
 
     private static final String KEY_PREFIX = "refreshToken:";
+    private static final Duration TOKEN_TTL = Duration.ofDays(30);
+
+    //비교 -> 블랙리스트 -> 교체를 redis 안에서 한 번에 실행 (1 RTT, 동시 refresh 시에도 하나만 성공)
+    //KEYS[1] = refreshToken:<userId>, KEYS[2] = 기존 토큰의 blacklist key
+    //ARGV[1] = 기존 토큰, ARGV[2] = 새 토큰, ARGV[3] = 새 토큰 ttl(초), ARGV[4] = blacklist ttl(초)
+    //ARGV[5] = blacklist value, ARGV[6] = blacklist channel, ARGV[7] = 기존 토큰 digest
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 2 end " +
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 1 end " +
+            "if tonumber(ARGV[4]) > 0 then " +
+            "redis.call('SET', KEYS[2], ARGV[5], 'EX', ARGV[4]) " +
+            "redis.call('PUBLISH', ARGV[6], ARGV[7]) " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 0",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenBlacklistService blacklistService;
+    private final MeterRegistry meterRegistry;
+
+    //redis 호출별 timer (auth.redis, tag: operation)
+    private Timer saveTimer;
+    private Timer getTimer;
+    private Timer deleteTimer;
+    private Timer rotateTimer;
+
+    public enum RotationResult {
+        ROTATED,
+        //저장된 토큰과 다름 (이미 다른 탭에서 교체됨, 로그아웃됨)
+        MISMATCH,
+        //이미 사용된 토큰
+        BLACKLISTED
+    }
+
+    @PostConstruct
+    void init() {
+        saveTimer = Timer.builder("auth.redis").tag("operation", "saveToken").register(meterRegistry);
+        getTimer = Timer.builder("auth.redis").tag("operation", "getToken").register(meterRegistry);
+        deleteTimer = Timer.builder("auth.redis").tag("operation", "deleteToken").register(meterRegistry);
+        rotateTimer = Timer.builder("auth.redis").tag("operation", "rotateToken").register(meterRegistry);
+    }
 
     public void saveToken(Integer userId, String refreshToken) {
         String key = KEY_PREFIX + userId;
 
         //만료기간 지나면 저절로 redis에서 삭제
-        redisTemplate.opsForValue()
-                .set(key, refreshToken, Duration.ofDays(30));
+        saveTimer.record(() -> redisTemplate.opsForValue()
+                .set(key, refreshToken, TOKEN_TTL));
     }
 
     public Optional<String> getToken(Integer userId) {
         String key = KEY_PREFIX + userId;
-        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+        return Optional.ofNullable(getTimer.record(() -> redisTemplate.opsForValue().get(key)));
     }
 
     public void deleteToken(Integer userId){
         String key = KEY_PREFIX+userId;
-        redisTemplate.delete(key);
+        deleteTimer.record(() -> redisTemplate.delete(key));
+    }
+
+    //currentToken이 저장된 토큰과 같고 블랙리스트에 없을 때만 currentToken을 블랙리스트에 넣고 newToken으로 교체
+    public RotationResult rotateToken(Integer userId, String currentToken, String newToken, Duration blacklistTtl) {
+        String digest = TokenDigest.shortDigest(currentToken);
+        String key = KEY_PREFIX + userId;
+        List<String> keys = List.of(key, blacklistService.keyOf(currentToken));
+
+        Long result = rotateTimer.record(() -> redisTemplate.execute(ROTATE_SCRIPT, keys,
+                currentToken, newToken, String.valueOf(TOKEN_TTL.getSeconds()), String.valueOf(blacklistTtl.getSeconds()),
+                RefreshTokenBlacklistService.BLACKLIST_VALUE, RefreshTokenBlacklistService.BLACKLIST_CHANNEL, digest));
+
+        if (result == null) return RotationResult.MISMATCH;
+        if (result == 0L) {
+            blacklistService.markBlacklisted(digest);
+            return RotationResult.ROTATED;
+        }
+        if (result == 2L) return RotationResult.BLACKLISTED;
+        return RotationResult.MISMATCH;
     }
 }
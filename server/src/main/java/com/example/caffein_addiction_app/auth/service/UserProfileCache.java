@@ -0,0 +1,206 @@
+package com.example.caffein_addiction_app.auth.service;
+
+import com.example.caffein_addiction_app.auth.dto.response.UserProfileDto;
+import com.example.caffein_addiction_app.auth.entity.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+//GET /api/auth/user/info 용 L1 프로필 캐시
+//수정 시 로컬 제거 + redis pub/sub으로 다른 인스턴스에도 제거 요청
+//조회 전에 받은 generation으로만 put 가능 -> 조회와 제거가 겹치면 (commit 전에 읽은 옛 값 등) 캐시하지 않음
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache {
+
+    //메시지 = "<userId>:<발행 시각 ms>"
+    private static final String INVALIDATION_CHANNEL = "user:profile:invalidate";
+
+    //사용자별 generation 대신 userId로 나눈 stripe (메모리 고정, 같은 stripe의 다른 사용자는 put 한 번 건너뛸 뿐)
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.profile-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${user.profile-cache.ttl-ms:600000}")
+    private long ttlMillis;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    //캐시에서 내준 항목의 나이, 다른 인스턴스 invalidation 전달 지연
+    private DistributionSummary servedAge;
+    private Timer invalidationLag;
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(
+                (Message message, byte[] pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+
+        FunctionCounter.builder("user.profile.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("user.profile.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("user.profile.cache.hit.ratio", this, UserProfileCache::hitRatio).register(meterRegistry);
+        Gauge.builder("user.profile.cache.size", entries, Map::size).register(meterRegistry);
+
+        servedAge = DistributionSummary.builder("user.profile.cache.served.age")
+                .baseUnit("milliseconds")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        invalidationLag = Timer.builder("user.profile.cache.invalidation.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public UserProfileDto get(Integer userId) {
+        Entry entry = entries.get(userId);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        long age = System.currentTimeMillis() - entry.loadedAtMillis;
+        if (age >= ttlMillis) {
+            entries.remove(userId, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        servedAge.record(age);
+        return entry.profile;
+    }
+
+    //캐시에 없으면 loader(DB)로 읽고 읽기 전 generation으로 put, 사용자가 없으면 null
+    public UserProfileDto getOrLoad(Integer userId, Function<Integer, Optional<User>> loader) {
+        UserProfileDto profile = get(userId);
+        if (profile != null) return profile;
+
+        long generation = generation(userId);
+        Optional<User> user = loader.apply(userId);
+        if (user.isEmpty()) return null;
+
+        profile = UserProfileDto.from(user.get());
+        put(profile, generation);
+        return profile;
+    }
+
+    //DB 조회 전에 호출, 결과를 put할 때 그대로 넘김
+    private long generation(Integer userId) {
+        return generations.get(stripeOf(userId));
+    }
+
+    private void put(UserProfileDto profile, long generation) {
+        Integer userId = profile.getId();
+        if (generations.get(stripeOf(userId)) != generation) return;
+
+        if (entries.size() >= maxSize) {
+            evictExpired();
+            if (entries.size() >= maxSize) return;
+        }
+
+        //넣는 사이에 제거되었으면 (generation 증가) 되돌림
+        Entry entry = new Entry(profile, System.currentTimeMillis());
+        entries.put(userId, entry);
+        if (generations.get(stripeOf(userId)) != generation) entries.remove(userId, entry);
+    }
+
+    //트랜잭션 안이면 지금 한 번, commit 후 한 번 더 제거
+    //commit 후에도 generation을 올리므로 commit 전에 옛 값을 읽은 요청은 이후에 put해도 캐시되지 않음
+    public void evict(Integer userId) {
+        remove(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                    publish(userId);
+                }
+            });
+            return;
+        }
+
+        publish(userId);
+    }
+
+    //generation을 먼저 올리고 제거 -> 진행 중인 put은 직접 되돌리거나 여기서 지워짐
+    private void remove(Integer userId) {
+        generations.incrementAndGet(stripeOf(userId));
+        entries.remove(userId);
+    }
+
+    private static int stripeOf(Integer userId) {
+        return Math.floorMod(userId, GENERATION_STRIPES);
+    }
+
+    private void publish(Integer userId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId + ":" + System.currentTimeMillis());
+        } catch (Exception e) {
+            //전달 실패 시 다른 인스턴스는 ttl 후 갱신
+            e.printStackTrace();
+        }
+    }
+
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) return;
+
+        try {
+            Integer userId = Integer.valueOf(message.substring(0, separator));
+            long publishedAt = Long.parseLong(message.substring(separator + 1));
+
+            remove(userId);
+            invalidationLag.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+        } catch (NumberFormatException e) {
+            //잘못된 메시지 무시
+        }
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().loadedAtMillis >= ttlMillis) iterator.remove();
+        }
+    }
+
+    private record Entry(UserProfileDto profile, long loadedAtMillis) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.caffein_addiction_app.auth.service;
+
+import com.example.caffein_addiction_app.auth.dto.request.RegisterRequestDto;
+import com.example.caffein_addiction_app.auth.dto.response.ProvisioningResultDto;
+import com.example.caffein_addiction_app.auth.entity.User;
+import com.example.caffein_addiction_app.auth.repository.UserRepository;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+//기업 고객 온보딩용 bulk 회원 등록
+//NDJSON으로 한 줄씩 읽어 chunk 단위로 처리: 이메일 중복은 chunk당 IN 쿼리 1번, insert는 JDBC batch
+//결과도 chunk가 끝날 때마다 NDJSON으로 흘려보냄
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${provisioning.chunk-size:100}")
+    private int chunkSize;
+
+    public void provision(InputStream input, OutputStream output) throws IOException {
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        try (MappingIterator<RegisterRequestDto> records = objectMapper.readerFor(RegisterRequestDto.class).readValues(input)) {
+            while (records.hasNext()) {
+                RegisterRequestDto dto;
+                try {
+                    dto = records.next();
+                } catch (RuntimeException e) {
+                    //깨진 JSON 이후로는 줄 경계를 알 수 없으므로 중단
+                    flushChunk(chunk, output);
+                    write(output, new ProvisioningResultDto(index, null, null, ResponseStatus.VALIDATION_FAILED));
+                    output.flush();
+                    return;
+                }
+
+                chunk.add(new Pending(index++, dto));
+                if (chunk.size() >= chunkSize) flushChunk(chunk, output);
+            }
+        }
+
+        flushChunk(chunk, output);
+    }
+
+    private void flushChunk(List<Pending> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) return;
+
+        List<ProvisioningResultDto> results = processChunk(chunk);
+        for (ProvisioningResultDto result : results) write(output, result);
+        output.flush();
+
+        chunk.clear();
+    }
+
+    private List<ProvisioningResultDto> processChunk(List<Pending> chunk) {
+        ProvisioningResultDto[] results = new ProvisioningResultDto[chunk.size()];
+
+        //1. 형식 검증 + chunk 안 중복
+        Set<String> emails = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Pending pending = chunk.get(i);
+            RegisterRequestDto dto = pending.dto;
+
+            if (dto == null || !validator.validate(dto).isEmpty()) {
+                results[i] = result(pending, null, ResponseStatus.VALIDATION_FAILED);
+            } else if (!emails.add(dto.getEmail())) {
+                results[i] = result(pending, null, ResponseStatus.DUPLICATE_EMAIL);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        //2. 이미 가입된 이메일 (chunk당 쿼리 1번)
+        Set<String> existingEmails;
+        try {
+            existingEmails = emails.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingEmails(emails));
+        } catch (Exception e) {
+            e.printStackTrace();
+            for (int i : candidates) results[i] = result(chunk.get(i), null, ResponseStatus.DATABASE_ERROR);
+            return List.of(results);
+        }
+
+        //3. 비밀번호 해싱 (chunk 전체를 bulk 해싱 풀에 한 번에 제출 -> 병렬, 로그인 풀과 분리)
+        List<Integer> userSlots = new ArrayList<>(candidates.size());
+        List<String> passwords = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            RegisterRequestDto dto = chunk.get(i).dto;
+
+            if (existingEmails.contains(dto.getEmail())) {
+                results[i] = result(chunk.get(i), null, ResponseStatus.DUPLICATE_EMAIL);
+                continue;
+            }
+
+            userSlots.add(i);
+            passwords.add(dto.getPassword());
+        }
+
+        List<User> users = new ArrayList<>(userSlots.size());
+        try {
+            List<String> encoded = passwords.isEmpty() ? List.of() : passwordHashingService.encodeAll(passwords);
+            for (int u = 0; u < userSlots.size(); u++) users.add(new User(chunk.get(userSlots.get(u)).dto, encoded.get(u)));
+        } catch (RejectedExecutionException e) {
+            //종료 중인 경우
+            for (int i : userSlots) results[i] = result(chunk.get(i), null, ResponseStatus.SERVER_BUSY);
+            return List.of(results);
+        }
+
+        //4. chunk 단위 트랜잭션 + batch insert
+        try {
+            if (!users.isEmpty()) transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+
+            for (int u = 0; u < users.size(); u++) {
+                int i = userSlots.get(u);
+                results[i] = result(chunk.get(i), users.get(u).getId(), ResponseStatus.SUCCESS);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            for (int i : userSlots) results[i] = result(chunk.get(i), null, ResponseStatus.DATABASE_ERROR);
+        }
+
+        return List.of(results);
+    }
+
+    private void write(OutputStream output, ProvisioningResultDto result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write(NEW_LINE);
+    }
+
+    private static ProvisioningResultDto result(Pending pending, Integer id, String status) {
+        String email = pending.dto == null ? null : pending.dto.getEmail();
+        return new ProvisioningResultDto(pending.index, email, id, status);
+    }
+
+    private record Pending(int index, RegisterRequestDto dto) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.caffein_addiction_app.catalog.controller;
+
+import com.example.caffein_addiction_app.catalog.dto.response.GetDrinkResponseDto;
+import com.example.caffein_addiction_app.catalog.dto.response.SearchDrinksResponseDto;
+import com.example.caffein_addiction_app.catalog.service.CatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    //전체 음료 목록, ETag가 같으면 304
+    @GetMapping
+    public ResponseEntity<Object> getCatalog(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<Object> response = catalogService.getCatalog(ifNoneMatch);
+        return response;
+    }
+
+    @GetMapping("/drinks/{drinkId}")
+    public ResponseEntity<? super GetDrinkResponseDto> getDrink(@PathVariable Integer drinkId) {
+        ResponseEntity<? super GetDrinkResponseDto> response = catalogService.getDrink(drinkId);
+        return response;
+    }
+
+    //브랜드/음료 이름 prefix 검색 (입력 중 자동완성용)
+    @GetMapping("/search")
+    public ResponseEntity<? super SearchDrinksResponseDto> searchDrinks(@RequestParam String q,
+                                                                       @RequestParam(defaultValue = "10") int limit) {
+        ResponseEntity<? super SearchDrinksResponseDto> response = catalogService.searchDrinks(q, limit);
+        return response;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.caffein_addiction_app.catalog.dto.response;
+
+import com.example.caffein_addiction_app.catalog.service.DrinkCatalog;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DrinkDto {
+
+    private Integer id;
+    private String category;
+    private String brand;
+    private String drink;
+    //사이즈 구분 없는 음료는 null
+    private String size;
+    private Integer volumeMl;
+    private Integer caffeineMg;
+
+    public static DrinkDto from(DrinkCatalog.Drink drink) {
+        return new DrinkDto(drink.id(), drink.category(), drink.brand(), drink.drink(), drink.size(),
+                drink.volumeMl(), drink.caffeineMg());
+    }
+}
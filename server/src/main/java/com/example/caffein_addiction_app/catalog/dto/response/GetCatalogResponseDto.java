@@ -0,0 +1,26 @@
+package com.example.caffein_addiction_app.catalog.dto.response;
+
+import com.example.caffein_addiction_app.catalog.service.DrinkCatalog;
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+
+import java.util.List;
+
+//전체 목록은 catalog가 바뀔 때 한 번만 직렬화해서 byte[]로 응답 (DrinkCatalogHolder)
+@Getter
+public class GetCatalogResponseDto extends ResponseDto {
+
+    //파일 순서 (카테고리 -> 브랜드 -> 음료 -> 사이즈)
+    private List<DrinkDto> drinks;
+
+    private GetCatalogResponseDto(List<DrinkDto> drinks) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.drinks = drinks;
+    }
+
+    public static GetCatalogResponseDto of(DrinkCatalog catalog) {
+        return new GetCatalogResponseDto(catalog.drinks().stream().map(DrinkDto::from).toList());
+    }
+}
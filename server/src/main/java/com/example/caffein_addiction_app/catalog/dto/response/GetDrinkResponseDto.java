@@ -0,0 +1,29 @@
+package com.example.caffein_addiction_app.catalog.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class GetDrinkResponseDto extends ResponseDto {
+
+    private DrinkDto drink;
+
+    private GetDrinkResponseDto(DrinkDto drink) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.drink = drink;
+    }
+
+    public static ResponseEntity<GetDrinkResponseDto> success(DrinkDto drink) {
+        GetDrinkResponseDto result = new GetDrinkResponseDto(drink);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistedDrink() {
+        ResponseDto result = new ResponseDto(404, ResponseStatus.NOT_EXISTED_DRINK, ResponseMessage.NOT_EXISTED_DRINK);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
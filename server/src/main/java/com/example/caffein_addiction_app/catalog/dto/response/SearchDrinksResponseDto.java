@@ -0,0 +1,26 @@
+package com.example.caffein_addiction_app.catalog.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class SearchDrinksResponseDto extends ResponseDto {
+
+    private List<DrinkDto> drinks;
+
+    private SearchDrinksResponseDto(List<DrinkDto> drinks) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.drinks = drinks;
+    }
+
+    public static ResponseEntity<SearchDrinksResponseDto> success(List<DrinkDto> drinks) {
+        SearchDrinksResponseDto result = new SearchDrinksResponseDto(drinks);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.caffein_addiction_app.catalog.service;
+
+import com.example.caffein_addiction_app.catalog.dto.response.GetDrinkResponseDto;
+import com.example.caffein_addiction_app.catalog.dto.response.SearchDrinksResponseDto;
+import org.springframework.http.ResponseEntity;
+
+public interface CatalogService {
+
+    ResponseEntity<Object> getCatalog(String ifNoneMatch);
+    ResponseEntity<? super GetDrinkResponseDto> getDrink(Integer drinkId);
+    ResponseEntity<? super SearchDrinksResponseDto> searchDrinks(String query, int limit);
+}
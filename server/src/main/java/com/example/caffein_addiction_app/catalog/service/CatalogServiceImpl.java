@@ -0,0 +1,75 @@
+package com.example.caffein_addiction_app.catalog.service;
+
+import com.example.caffein_addiction_app.catalog.dto.response.DrinkDto;
+import com.example.caffein_addiction_app.catalog.dto.response.GetDrinkResponseDto;
+import com.example.caffein_addiction_app.catalog.dto.response.SearchDrinksResponseDto;
+import com.example.caffein_addiction_app.common.ResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogServiceImpl implements CatalogService {
+
+    //검색어 최대 길이 (자모 분해 전)
+    private static final int MAX_QUERY_LENGTH = 50;
+
+    private final DrinkCatalogHolder catalogHolder;
+
+    @Override
+    public ResponseEntity<Object> getCatalog(String ifNoneMatch) {
+
+        DrinkCatalogHolder.Snapshot snapshot = catalogHolder.current();
+
+        //클라이언트는 매번 If-None-Match로 확인, 안 바뀌었으면 body 없이 304
+        if (matches(ifNoneMatch, snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+    @Override
+    public ResponseEntity<? super GetDrinkResponseDto> getDrink(Integer drinkId) {
+
+        DrinkCatalog.Drink drink = catalogHolder.current().catalog().findById(drinkId);
+        if (drink == null) return GetDrinkResponseDto.notExistedDrink();
+
+        return GetDrinkResponseDto.success(DrinkDto.from(drink));
+    }
+
+    @Override
+    public ResponseEntity<? super SearchDrinksResponseDto> searchDrinks(String query, int limit) {
+
+        if (query == null || query.length() > MAX_QUERY_LENGTH) return ResponseDto.validationFailed();
+        if (limit < 1 || limit > catalogHolder.getMaxSearchResults()) return ResponseDto.validationFailed();
+
+        return SearchDrinksResponseDto.success(catalogHolder.current().catalog().search(query, limit).stream()
+                .map(DrinkDto::from)
+                .toList());
+    }
+
+    //If-None-Match: "a", W/"b" 또는 * (GET은 weak 비교)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
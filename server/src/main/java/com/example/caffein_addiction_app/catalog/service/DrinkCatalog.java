@@ -0,0 +1,129 @@
+package com.example.caffein_addiction_app.catalog.service;
+
+import com.example.caffein_addiction_app.common.HangulJamo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//음료 목록 (카테고리 -> 브랜드 -> 음료 -> 사이즈별 카페인) 불변 스냅샷
+//항목은 파일 순서대로 배열에 두고 id -> index는 id 크기만큼의 int[]로 O(1) 조회
+//파일 형식: 한 줄에 한 항목, tab 구분 "id category brand drink size volumeMl caffeineMg" (size 없으면 빈 칸, #으로 시작하면 주석)
+public final class DrinkCatalog {
+
+    private static final int FIELD_COUNT = 7;
+
+    //id -> index 배열 크기 상한
+    private static final int MAX_ID = 1 << 20;
+
+    public record Drink(int id, String category, String brand, String drink, String size, int volumeMl, int caffeineMg) {
+    }
+
+    private final Drink[] drinks;
+    private final List<Drink> drinkList;
+    private final int[] indexById;
+    private final PrefixTrie trie;
+
+    private DrinkCatalog(Drink[] drinks, int[] indexById, PrefixTrie trie) {
+        this.drinks = drinks;
+        this.drinkList = List.of(drinks);
+        this.indexById = indexById;
+        this.trie = trie;
+    }
+
+    //형식이 잘못된 줄이 있으면 IllegalArgumentException (줄 번호 포함)
+    public static DrinkCatalog parse(String content, int maxSearchResults) {
+        List<Drink> parsed = new ArrayList<>();
+        //같은 카테고리/브랜드 문자열은 인스턴스 하나로
+        Map<String, String> names = new HashMap<>();
+        int maxId = 0;
+
+        String[] lines = content.split("\r?\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.isBlank() || line.startsWith("#")) continue;
+
+            String[] fields = line.split("\t", -1);
+            if (fields.length != FIELD_COUNT) {
+                throw new IllegalArgumentException("catalog line " + (i + 1) + ": expected " + FIELD_COUNT + " fields but got " + fields.length);
+            }
+
+            try {
+                int id = Integer.parseInt(fields[0].trim());
+                if (id <= 0 || id >= MAX_ID) throw new IllegalArgumentException("id out of range: " + id);
+
+                String size = fields[4].trim();
+                parsed.add(new Drink(id,
+                        names.computeIfAbsent(required(fields[1]), name -> name),
+                        names.computeIfAbsent(required(fields[2]), name -> name),
+                        required(fields[3]),
+                        size.isEmpty() ? null : size,
+                        Integer.parseInt(fields[5].trim()),
+                        Integer.parseInt(fields[6].trim())));
+                maxId = Math.max(maxId, id);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("catalog line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+
+        Drink[] drinks = parsed.toArray(new Drink[0]);
+        int[] indexById = new int[maxId + 1];
+        Arrays.fill(indexById, -1);
+
+        PrefixTrie.Builder trie = new PrefixTrie.Builder(maxSearchResults);
+        for (int index = 0; index < drinks.length; index++) {
+            Drink drink = drinks[index];
+            if (indexById[drink.id()] >= 0) throw new IllegalArgumentException("duplicate catalog id: " + drink.id());
+            indexById[drink.id()] = index;
+
+            for (String key : searchKeys(drink)) trie.add(key, index);
+        }
+
+        return new DrinkCatalog(drinks, indexById, trie.build());
+    }
+
+    //없으면 null
+    public Drink findById(int id) {
+        if (id <= 0 || id >= indexById.length) return null;
+        int index = indexById[id];
+        return index < 0 ? null : drinks[index];
+    }
+
+    //브랜드/음료 이름 prefix 검색, 한글은 자모 단위라 입력 중인 글자도 매칭
+    public List<Drink> search(String query, int limit) {
+        int[] found = trie.search(HangulJamo.normalize(query), limit);
+
+        List<Drink> result = new ArrayList<>(found.length);
+        for (int index : found) result.add(drinks[index]);
+        return result;
+    }
+
+    //파일 순서
+    public List<Drink> drinks() {
+        return drinkList;
+    }
+
+    public int size() {
+        return drinks.length;
+    }
+
+    //"브랜드 음료", 브랜드, 음료, 음료 이름의 각 단어부터 시작하는 부분 ("아이스 아메리카노" -> "아메리카노")
+    private static List<String> searchKeys(Drink drink) {
+        List<String> keys = new ArrayList<>();
+        keys.add(HangulJamo.normalize(drink.brand() + " " + drink.drink()));
+        keys.add(HangulJamo.normalize(drink.brand()));
+
+        String name = HangulJamo.normalize(drink.drink());
+        keys.add(name);
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) keys.add(name.substring(i + 1));
+        return keys;
+    }
+
+    private static String required(String field) {
+        String value = field.trim();
+        if (value.isEmpty()) throw new IllegalArgumentException("empty field");
+        return value;
+    }
+}
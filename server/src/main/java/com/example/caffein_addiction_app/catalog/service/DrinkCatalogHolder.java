@@ -0,0 +1,123 @@
+package com.example.caffein_addiction_app.catalog.service;
+
+import com.example.caffein_addiction_app.catalog.dto.response.GetCatalogResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+//현재 음료 목록 스냅샷 (catalog + 미리 직렬화한 전체 응답 + strong ETag)
+//파일이 바뀌면 새 스냅샷을 전부 만든 뒤 volatile 참조 하나만 교체 -> 요청은 항상 한 버전만 봄
+//새 파일이 잘못됐으면 기존 스냅샷 유지
+@Component
+@RequiredArgsConstructor
+public class DrinkCatalogHolder {
+
+    public record Snapshot(DrinkCatalog catalog, byte[] body, String etag, long lastModified) {
+    }
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${catalog.location:classpath:catalog/drinks.tsv}")
+    private String location;
+
+    @Value("${catalog.search.max-results:20}")
+    private int maxSearchResults;
+
+    private volatile Snapshot snapshot;
+    //읽기에 실패한 파일 수정 시각 (고쳐질 때까지 다시 시도하지 않음)
+    private long rejectedLastModified;
+    private Counter reloads;
+    private Counter reloadFailures;
+
+    @PostConstruct
+    void init() throws IOException {
+        //시작 시 읽기 실패는 기동 실패
+        snapshot = load(resourceLoader.getResource(location));
+
+        reloads = Counter.builder("catalog.reloads").register(meterRegistry);
+        reloadFailures = Counter.builder("catalog.reload.failures").register(meterRegistry);
+        Gauge.builder("catalog.drinks", this, holder -> holder.snapshot.catalog().size()).register(meterRegistry);
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    public int getMaxSearchResults() {
+        return maxSearchResults;
+    }
+
+    //jar 안 classpath 리소스처럼 파일이 아니면 수정 시각을 알 수 없으므로 reload 안 함
+    @Scheduled(fixedDelayString = "${catalog.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(location);
+
+        long lastModified;
+        try {
+            if (!resource.isFile()) return;
+            lastModified = resource.lastModified();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        if (lastModified == snapshot.lastModified() || lastModified == rejectedLastModified) return;
+
+        try {
+            Snapshot loaded = load(resource);
+
+            //내용이 같으면 (touch 등) ETag도 같으니 수정 시각만 갱신
+            if (Arrays.equals(loaded.body(), snapshot.body())) {
+                snapshot = new Snapshot(snapshot.catalog(), snapshot.body(), snapshot.etag(), loaded.lastModified());
+                return;
+            }
+
+            snapshot = loaded;
+            reloads.increment();
+        } catch (Exception e) {
+            rejectedLastModified = lastModified;
+            reloadFailures.increment();
+            e.printStackTrace();
+        }
+    }
+
+    private Snapshot load(Resource resource) throws IOException {
+        long lastModified = resource.isFile() ? resource.lastModified() : 0;
+
+        String content;
+        try (InputStream input = resource.getInputStream()) {
+            content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        DrinkCatalog catalog = DrinkCatalog.parse(content, maxSearchResults);
+        byte[] body = objectMapper.writeValueAsBytes(GetCatalogResponseDto.of(catalog));
+        return new Snapshot(catalog, body, etagOf(body), lastModified);
+    }
+
+    //응답 body의 SHA-256 앞 16 byte
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.caffein_addiction_app.catalog.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//정규화된 key -> 항목 index prefix 검색용 trie, 만든 뒤에는 불변
+//노드/간선을 배열 몇 개로 펼쳐 두고 (노드별 간선은 문자순 정렬 -> binary search)
+//노드마다 결과 상위 maxResults개를 미리 계산해둠 -> 조회는 query 길이만큼 내려가서 구간 복사만
+final class PrefixTrie {
+
+    //node i의 간선 = edgeChars/edgeTargets[edgeStart[i] .. edgeStart[i + 1])
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    //node i의 결과 = results[resultStart[i] .. resultStart[i + 1]), 순위순
+    private final int[] resultStart;
+    private final int[] results;
+
+    private PrefixTrie(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] resultStart, int[] results) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.resultStart = resultStart;
+        this.results = results;
+    }
+
+    //prefix로 시작하는 key를 가진 항목 index, 최대 limit개
+    int[] search(String prefix, int limit) {
+        if (prefix.isEmpty()) return new int[0];
+
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            int from = edgeStart[node];
+            int edge = Arrays.binarySearch(edgeChars, from, edgeStart[node + 1], prefix.charAt(i));
+            if (edge < 0) return new int[0];
+            node = edgeTargets[edge];
+        }
+
+        int from = resultStart[node];
+        int count = Math.min(limit, resultStart[node + 1] - from);
+        return Arrays.copyOfRange(results, from, from + count);
+    }
+
+    int nodeCount() {
+        return edgeStart.length - 1;
+    }
+
+    static final class Builder {
+
+        private final int maxResults;
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        //node별 항목 index -> 순위 (짧은 key로 걸린 항목일수록 앞)
+        private final List<Map<Integer, Integer>> ranks = new ArrayList<>();
+
+        Builder(int maxResults) {
+            this.maxResults = maxResults;
+            newNode();
+        }
+
+        Builder add(String key, int item) {
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = children.get(node).get(key.charAt(i));
+                if (next == null) {
+                    next = newNode();
+                    children.get(node).put(key.charAt(i), next);
+                }
+                node = next;
+                ranks.get(node).merge(item, key.length(), Math::min);
+            }
+            return this;
+        }
+
+        PrefixTrie build() {
+            int nodes = children.size();
+            int[] edgeStart = new int[nodes + 1];
+            int[] resultStart = new int[nodes + 1];
+
+            for (int i = 0; i < nodes; i++) {
+                edgeStart[i + 1] = edgeStart[i] + children.get(i).size();
+                resultStart[i + 1] = resultStart[i] + Math.min(maxResults, ranks.get(i).size());
+            }
+
+            char[] edgeChars = new char[edgeStart[nodes]];
+            int[] edgeTargets = new int[edgeStart[nodes]];
+            int[] results = new int[resultStart[nodes]];
+
+            for (int i = 0; i < nodes; i++) {
+                int edge = edgeStart[i];
+                for (Map.Entry<Character, Integer> child : children.get(i).entrySet()) {
+                    edgeChars[edge] = child.getKey();
+                    edgeTargets[edge] = child.getValue();
+                    edge++;
+                }
+
+                //순위, 같으면 catalog 순서
+                Map<Integer, Integer> rank = ranks.get(i);
+                int[] ordered = rank.keySet().stream()
+                        .sorted((a, b) -> rank.get(a).equals(rank.get(b)) ? Integer.compare(a, b) : Integer.compare(rank.get(a), rank.get(b)))
+                        .mapToInt(Integer::intValue)
+                        .limit(maxResults)
+                        .toArray();
+                System.arraycopy(ordered, 0, results, resultStart[i], ordered.length);
+            }
+
+            return new PrefixTrie(edgeStart, edgeChars, edgeTargets, resultStart, results);
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            ranks.add(new HashMap<>());
+            return children.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.caffein_addiction_app.challenge.controller;
+
+import com.example.caffein_addiction_app.challenge.dto.request.CreateChallengeRequestDto;
+import com.example.caffein_addiction_app.challenge.service.ChallengeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/challenges")
+@RequiredArgsConstructor
+public class ChallengeAdminController {
+
+    private final ChallengeService challengeService;
+
+    @PostMapping
+    public ResponseEntity<?> createChallenge(@Valid @RequestBody CreateChallengeRequestDto dto) {
+        ResponseEntity<?> response = challengeService.createChallenge(dto);
+        return response;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.caffein_addiction_app.challenge.controller;
+
+import com.example.caffein_addiction_app.challenge.dto.response.GetChallengesResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetLeaderboardResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetMyRankResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.JoinChallengeResponseDto;
+import com.example.caffein_addiction_app.challenge.service.ChallengeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/challenges")
+@RequiredArgsConstructor
+public class ChallengeController {
+
+    private final ChallengeService challengeService;
+
+    //진행 중 + 예정
+    @GetMapping
+    public ResponseEntity<? super GetChallengesResponseDto> getChallenges() {
+        ResponseEntity<? super GetChallengesResponseDto> response = challengeService.getChallenges();
+        return response;
+    }
+
+    @PostMapping("/{challengeId}/join")
+    public ResponseEntity<? super JoinChallengeResponseDto> joinChallenge(@AuthenticationPrincipal Integer userId, @PathVariable Long challengeId) {
+        ResponseEntity<? super JoinChallengeResponseDto> response = challengeService.joinChallenge(userId, challengeId);
+        return response;
+    }
+
+    //상위 limit명
+    @GetMapping("/{challengeId}/leaderboard")
+    public ResponseEntity<? super GetLeaderboardResponseDto> getLeaderboard(@PathVariable Long challengeId,
+                                                                            @RequestParam(defaultValue = "10") int limit) {
+        ResponseEntity<? super GetLeaderboardResponseDto> response = challengeService.getLeaderboard(challengeId, limit);
+        return response;
+    }
+
+    //내 순위 + 앞뒤 radius명
+    @GetMapping("/{challengeId}/leaderboard/me")
+    public ResponseEntity<? super GetMyRankResponseDto> getMyRank(@AuthenticationPrincipal Integer userId,
+                                                                  @PathVariable Long challengeId,
+                                                                  @RequestParam(defaultValue = "5") int radius) {
+        ResponseEntity<? super GetMyRankResponseDto> response = challengeService.getMyRank(userId, challengeId, radius);
+        return response;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.caffein_addiction_app.challenge.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class CreateChallengeRequestDto {
+
+    @NotBlank(message = "챌린지 이름은 필수 입력 항목입니다.")
+    @Size(max = 100, message = "챌린지 이름은 100자 이하여야 합니다.")
+    private String name;
+
+    //days-under-limit | average-reduction
+    @NotBlank(message = "순위 기준은 필수 입력 항목입니다.")
+    private String metric;
+
+    @NotNull(message = "시작일은 필수 입력 항목입니다.")
+    private LocalDate startDate;
+
+    @NotNull(message = "종료일은 필수 입력 항목입니다.")
+    private LocalDate endDate;
+}
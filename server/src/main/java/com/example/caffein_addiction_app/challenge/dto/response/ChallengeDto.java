@@ -0,0 +1,23 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import com.example.caffein_addiction_app.challenge.entity.Challenge;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class ChallengeDto {
+
+    private Long challengeId;
+    private String name;
+    private String metric;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public static ChallengeDto from(Challenge challenge) {
+        return new ChallengeDto(challenge.getId(), challenge.getName(), challenge.getMetric().getTag(),
+                challenge.getStartDay(), challenge.getEndDay());
+    }
+}
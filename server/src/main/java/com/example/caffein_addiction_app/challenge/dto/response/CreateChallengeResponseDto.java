@@ -0,0 +1,24 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class CreateChallengeResponseDto extends ResponseDto {
+
+    private ChallengeDto challenge;
+
+    private CreateChallengeResponseDto(ChallengeDto challenge) {
+        super(201, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.challenge = challenge;
+    }
+
+    public static ResponseEntity<CreateChallengeResponseDto> success(ChallengeDto challenge) {
+        CreateChallengeResponseDto result = new CreateChallengeResponseDto(challenge);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetChallengesResponseDto extends ResponseDto {
+
+    private List<ChallengeDto> challenges;
+
+    private GetChallengesResponseDto(List<ChallengeDto> challenges) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.challenges = challenges;
+    }
+
+    public static ResponseEntity<GetChallengesResponseDto> success(List<ChallengeDto> challenges) {
+        GetChallengesResponseDto result = new GetChallengesResponseDto(challenges);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetLeaderboardResponseDto extends ResponseDto {
+
+    private Long challengeId;
+    private String metric;
+
+    //점수가 있는 참가자 수
+    private long participants;
+
+    private List<LeaderboardEntryDto> entries;
+
+    private GetLeaderboardResponseDto(Long challengeId, String metric, long participants, List<LeaderboardEntryDto> entries) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.challengeId = challengeId;
+        this.metric = metric;
+        this.participants = participants;
+        this.entries = entries;
+    }
+
+    public static ResponseEntity<GetLeaderboardResponseDto> success(Long challengeId, String metric, long participants, List<LeaderboardEntryDto> entries) {
+        GetLeaderboardResponseDto result = new GetLeaderboardResponseDto(challengeId, metric, participants, entries);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistedChallenge() {
+        ResponseDto result = new ResponseDto(404, ResponseStatus.NOT_EXISTED_CHALLENGE, ResponseMessage.NOT_EXISTED_CHALLENGE);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
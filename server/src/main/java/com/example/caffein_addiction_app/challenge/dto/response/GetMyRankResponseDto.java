@@ -0,0 +1,44 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetMyRankResponseDto extends ResponseDto {
+
+    private Long challengeId;
+
+    //참가하지 않았거나 아직 점수가 없으면 null
+    private Long rank;
+    private Double score;
+
+    private long participants;
+
+    //내 앞뒤 순위 (나 포함)
+    private List<LeaderboardEntryDto> entries;
+
+    private GetMyRankResponseDto(Long challengeId, Long rank, Double score, long participants, List<LeaderboardEntryDto> entries) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.challengeId = challengeId;
+        this.rank = rank;
+        this.score = score;
+        this.participants = participants;
+        this.entries = entries;
+    }
+
+    public static ResponseEntity<GetMyRankResponseDto> success(Long challengeId, Long rank, Double score, long participants, List<LeaderboardEntryDto> entries) {
+        GetMyRankResponseDto result = new GetMyRankResponseDto(challengeId, rank, score, participants, entries);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistedChallenge() {
+        ResponseDto result = new ResponseDto(404, ResponseStatus.NOT_EXISTED_CHALLENGE, ResponseMessage.NOT_EXISTED_CHALLENGE);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
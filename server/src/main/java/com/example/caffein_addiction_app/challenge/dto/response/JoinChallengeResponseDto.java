@@ -0,0 +1,33 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class JoinChallengeResponseDto extends ResponseDto {
+
+    private Long challengeId;
+
+    //이미 참가 중이었으면 false
+    private boolean joined;
+
+    private JoinChallengeResponseDto(Long challengeId, boolean joined) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.challengeId = challengeId;
+        this.joined = joined;
+    }
+
+    public static ResponseEntity<JoinChallengeResponseDto> success(Long challengeId, boolean joined) {
+        JoinChallengeResponseDto result = new JoinChallengeResponseDto(challengeId, joined);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistedChallenge() {
+        ResponseDto result = new ResponseDto(404, ResponseStatus.NOT_EXISTED_CHALLENGE, ResponseMessage.NOT_EXISTED_CHALLENGE);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
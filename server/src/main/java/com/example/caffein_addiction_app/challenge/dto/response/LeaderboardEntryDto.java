@@ -0,0 +1,15 @@
+package com.example.caffein_addiction_app.challenge.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+
+    //1부터
+    private long rank;
+    private Integer userId;
+    private String name;
+    private double score;
+}
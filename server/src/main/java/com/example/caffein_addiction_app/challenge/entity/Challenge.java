@@ -0,0 +1,55 @@
+package com.example.caffein_addiction_app.challenge.entity;
+
+import com.example.caffein_addiction_app.challenge.dto.request.CreateChallengeRequestDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+//카페인 줄이기 챌린지 (기간은 statistics.time-zone 기준 날짜, 양 끝 포함)
+@Entity
+@Table(name = "challenges", indexes = {
+        @Index(name = "idx_challenges_end_day", columnList = "end_day")
+})
+@Getter
+@NoArgsConstructor
+public class Challenge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 32)
+    private ChallengeMetric metric;
+
+    @Column(name = "start_day", nullable = false)
+    private LocalDate startDay;
+
+    @Column(name = "end_day", nullable = false)
+    private LocalDate endDay;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public Challenge(CreateChallengeRequestDto dto, ChallengeMetric metric) {
+        this.name = dto.getName();
+        this.metric = metric;
+        this.startDay = dto.getStartDate();
+        this.endDay = dto.getEndDate();
+        this.createdAt = Instant.now();
+    }
+
+    public boolean isActive(LocalDate today) {
+        return !today.isBefore(startDay) && !today.isAfter(endDay);
+    }
+
+    public boolean isEnded(LocalDate today) {
+        return today.isAfter(endDay);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.caffein_addiction_app.challenge.entity;
+
+//순위 기준 (높을수록 상위)
+public enum ChallengeMetric {
+
+    //시작일부터 오늘까지 하루 합계가 dailyCaffeineLimit 이하였던 날 수 (기록 없는 날 포함)
+    DAYS_UNDER_LIMIT("days-under-limit"),
+
+    //참가 전 하루 평균 대비 챌린지 기간 하루 평균 감소율 (%)
+    AVERAGE_REDUCTION("average-reduction");
+
+    private final String tag;
+
+    ChallengeMetric(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    //없는 기준이면 null
+    public static ChallengeMetric of(String tag) {
+        for (ChallengeMetric metric : values()) {
+            if (metric.tag.equalsIgnoreCase(tag)) return metric;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.caffein_addiction_app.challenge.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+//챌린지 참가자, 점수는 DB에 두지 않고 redis leaderboard에만 (rollup으로 언제든 다시 계산)
+@Entity
+@Table(name = "challenge_participants", indexes = {
+        @Index(name = "idx_challenge_participants_user_id", columnList = "user_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_challenge_participants_challenge_user", columnNames = {"challenge_id", "user_id"})
+})
+@Getter
+@NoArgsConstructor
+public class ChallengeParticipant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "challenge_id", nullable = false)
+    private Long challengeId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    //참가 전 하루 평균 섭취량 (mg), AVERAGE_REDUCTION 기준값
+    @Column(name = "baseline_daily_amount", nullable = false)
+    private Double baselineDailyAmount;
+
+    @Column(name = "joined_at", nullable = false)
+    private Instant joinedAt;
+
+    public ChallengeParticipant(Long challengeId, Integer userId, double baselineDailyAmount) {
+        this.challengeId = challengeId;
+        this.userId = userId;
+        this.baselineDailyAmount = baselineDailyAmount;
+        this.joinedAt = Instant.now();
+    }
+}
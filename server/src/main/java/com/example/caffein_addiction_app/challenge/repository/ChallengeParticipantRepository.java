@@ -0,0 +1,11 @@
+package com.example.caffein_addiction_app.challenge.repository;
+
+import com.example.caffein_addiction_app.challenge.entity.ChallengeParticipant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChallengeParticipantRepository extends JpaRepository<ChallengeParticipant, Long> {
+
+    boolean existsByChallengeIdAndUserId(Long challengeId, Integer userId);
+}
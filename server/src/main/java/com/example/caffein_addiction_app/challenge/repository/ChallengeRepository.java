@@ -0,0 +1,21 @@
+package com.example.caffein_addiction_app.challenge.repository;
+
+import com.example.caffein_addiction_app.challenge.entity.Challenge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
+
+    //day 이후에 끝나는 챌린지 (진행 중 + 예정), 시작일순
+    @Query("SELECT c FROM Challenge c WHERE c.endDay >= :day ORDER BY c.startDay, c.id")
+    List<Challenge> findEndingOnOrAfter(@Param("day") LocalDate day);
+
+    @Query("SELECT c FROM Challenge c WHERE c.startDay <= :day AND c.endDay >= :day")
+    List<Challenge> findActive(@Param("day") LocalDate day);
+}
@@ -0,0 +1,96 @@
+package com.example.caffein_addiction_app.challenge.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//챌린지별 redis sorted set (member = userId, score = 점수), 순위는 점수 내림차순 0부터
+//점수가 같으면 redis 기준 member 역순
+@Component
+@RequiredArgsConstructor
+public class ChallengeLeaderboard {
+
+    private static final String KEY_PREFIX = "challenge:leaderboard:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public record Entry(int userId, long rank, double score) {
+    }
+
+    //챌린지별 점수를 pipeline 하나로 ZADD (왕복 한 번)
+    public void addAll(Map<Long, Map<Integer, Double>> scoresByChallenge) {
+        if (scoresByChallenge.isEmpty()) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map.Entry<Long, Map<Integer, Double>> challenge : scoresByChallenge.entrySet()) {
+                String key = keyOf(challenge.getKey());
+                for (Map.Entry<Integer, Double> score : challenge.getValue().entrySet()) {
+                    stringConnection.zAdd(key, score.getValue(), score.getKey().toString());
+                }
+            }
+            return null;
+        });
+    }
+
+    //종료된 챌린지 순위는 retention 후 삭제 (다시 계산하지 않음)
+    public void expire(long challengeId, long retentionMillis) {
+        redisTemplate.expire(keyOf(challengeId), retentionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public long size(long challengeId) {
+        Long size = redisTemplate.opsForZSet().zCard(keyOf(challengeId));
+        return size == null ? 0 : size;
+    }
+
+    public List<Entry> top(long challengeId, int limit) {
+        return range(challengeId, 0, limit - 1);
+    }
+
+    //참가하지 않았거나 아직 점수가 없으면 null
+    public Entry rankOf(long challengeId, Integer userId) {
+        String key = keyOf(challengeId);
+
+        //ZREVRANK, ZSCORE를 한 번에
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zRevRank(key, userId.toString());
+            stringConnection.zScore(key, userId.toString());
+            return null;
+        });
+
+        if (results.get(0) == null || results.get(1) == null) return null;
+        return new Entry(userId, ((Number) results.get(0)).longValue(), ((Number) results.get(1)).doubleValue());
+    }
+
+    //rank 앞뒤 radius명
+    public List<Entry> around(long challengeId, long rank, int radius) {
+        return range(challengeId, Math.max(0, rank - radius), rank + radius);
+    }
+
+    private List<Entry> range(long challengeId, long from, long to) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(keyOf(challengeId), from, to);
+        if (tuples == null || tuples.isEmpty()) return Collections.emptyList();
+
+        List<Entry> entries = new ArrayList<>(tuples.size());
+        long rank = from;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(new Entry(Integer.parseInt(tuple.getValue()), rank++, tuple.getScore()));
+        }
+        return entries;
+    }
+
+    private static String keyOf(long challengeId) {
+        return KEY_PREFIX + challengeId;
+    }
+}
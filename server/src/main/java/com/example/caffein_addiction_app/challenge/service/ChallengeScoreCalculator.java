@@ -0,0 +1,126 @@
+package com.example.caffein_addiction_app.challenge.service;
+
+import com.example.caffein_addiction_app.challenge.entity.Challenge;
+import com.example.caffein_addiction_app.challenge.entity.ChallengeMetric;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//daily_intake_rollups로 챌린지 점수 계산 (원본 기록은 읽지 않음)
+//참가자 묶음마다 쿼리 한 번 (사용자/날짜별 합계) -> 점수는 메모리에서 계산
+@Component
+@RequiredArgsConstructor
+public class ChallengeScoreCalculator {
+
+    private static final String PARTICIPANT_COLUMNS =
+            "SELECT p.user_id, p.baseline_daily_amount, u.daily_caffeine_limit FROM challenge_participants p " +
+            "JOIN users u ON u.id = p.user_id WHERE p.challenge_id = ? ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //dailyCaffeineLimit을 설정하지 않은 사용자 기준 (mg)
+    @Value("${challenge.default-daily-limit-mg:400}")
+    private int defaultDailyLimit;
+
+    //참가 전 평균을 낼 기간
+    @Value("${challenge.baseline-days:14}")
+    private int baselineDays;
+
+    public record Participant(int userId, double baselineDailyAmount, int dailyCaffeineLimit) {
+    }
+
+    //user_id 순 keyset page
+    public List<Participant> participants(long challengeId, int afterUserId, int limit) {
+        return jdbcTemplate.query(PARTICIPANT_COLUMNS + "AND p.user_id > ? ORDER BY p.user_id LIMIT ?",
+                (rs, rowNum) -> participantOf(rs.getInt(1), rs.getDouble(2), rs.getObject(3, Integer.class)),
+                challengeId, afterUserId, limit);
+    }
+
+    //userIds 중 참가자만
+    public List<Participant> participants(long challengeId, Collection<Integer> userIds) {
+        if (userIds.isEmpty()) return Collections.emptyList();
+
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(challengeId);
+        args.addAll(userIds);
+
+        return jdbcTemplate.query(PARTICIPANT_COLUMNS + "AND p.user_id IN (" + placeholders(userIds.size()) + ")",
+                (rs, rowNum) -> participantOf(rs.getInt(1), rs.getDouble(2), rs.getObject(3, Integer.class)),
+                args.toArray());
+    }
+
+    //before 직전 baseline-days일 하루 평균 (기록 없는 날은 0)
+    public double baselineDailyAmount(Integer userId, LocalDate before) {
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(total_amount), 0) FROM daily_intake_rollups WHERE user_id = ? AND rollup_day BETWEEN ? AND ?",
+                Long.class, userId, Date.valueOf(before.minusDays(baselineDays)), Date.valueOf(before.minusDays(1)));
+        return total == null ? 0 : (double) total / baselineDays;
+    }
+
+    //시작일부터 min(today, 종료일)까지 점수, 시작 전이면 빈 map
+    public Map<Integer, Double> scores(Challenge challenge, List<Participant> participants, LocalDate today) {
+        LocalDate until = today.isAfter(challenge.getEndDay()) ? challenge.getEndDay() : today;
+        if (participants.isEmpty() || until.isBefore(challenge.getStartDay())) return Collections.emptyMap();
+
+        Map<Integer, Participant> byUser = new HashMap<>();
+        List<Object> args = new ArrayList<>(participants.size() + 2);
+        args.add(Date.valueOf(challenge.getStartDay()));
+        args.add(Date.valueOf(until));
+        for (Participant participant : participants) {
+            byUser.put(participant.userId(), participant);
+            args.add(participant.userId());
+        }
+
+        //long[]{기간 합계 mg, 제한량 넘은 날 수}
+        Map<Integer, long[]> totals = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT user_id, SUM(total_amount) FROM daily_intake_rollups WHERE rollup_day BETWEEN ? AND ? " +
+                "AND user_id IN (" + placeholders(participants.size()) + ") GROUP BY user_id, rollup_day",
+                rs -> {
+                    int userId = rs.getInt(1);
+                    long dayTotal = rs.getLong(2);
+                    long[] total = totals.computeIfAbsent(userId, k -> new long[2]);
+                    total[0] += dayTotal;
+                    if (dayTotal > byUser.get(userId).dailyCaffeineLimit()) total[1]++;
+                },
+                args.toArray());
+
+        long days = ChronoUnit.DAYS.between(challenge.getStartDay(), until) + 1;
+        Map<Integer, Double> scores = new HashMap<>();
+        for (Participant participant : participants) {
+            long[] total = totals.getOrDefault(participant.userId(), new long[2]);
+            scores.put(participant.userId(), score(challenge.getMetric(), participant, total[0], total[1], days));
+        }
+        return scores;
+    }
+
+    private double score(ChallengeMetric metric, Participant participant, long amount, long daysOver, long days) {
+        if (metric == ChallengeMetric.DAYS_UNDER_LIMIT) return days - daysOver;
+
+        //기준값이 없으면 (참가 전 기록 없음) 줄일 것도 없으므로 0, 소수점 첫째 자리까지
+        double baseline = participant.baselineDailyAmount();
+        if (baseline <= 0) return 0;
+        double reduction = (baseline - (double) amount / days) * 100 / baseline;
+        return Math.round(reduction * 10) / 10.0;
+    }
+
+    private Participant participantOf(int userId, double baselineDailyAmount, Integer dailyCaffeineLimit) {
+        int limit = dailyCaffeineLimit == null || dailyCaffeineLimit <= 0 ? defaultDailyLimit : dailyCaffeineLimit;
+        return new Participant(userId, baselineDailyAmount, limit);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.caffein_addiction_app.challenge.service;
+
+import com.example.caffein_addiction_app.challenge.entity.Challenge;
+import com.example.caffein_addiction_app.challenge.repository.ChallengeRepository;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+//leaderboard 점수 갱신
+//기록 저장/삭제 시에는 사용자 id만 표시해두고 flush-interval마다 모아서 계산 -> 같은 사용자의 연속 기록은 한 번만 계산,
+//진행 중인 모든 챌린지의 ZADD를 pipeline 하나로 전송
+//날짜가 바뀌면 기록이 없어도 점수가 바뀌므로 (DAYS_UNDER_LIMIT) 매일 전체 참가자를 page 단위로 다시 계산
+@Component
+@RequiredArgsConstructor
+public class ChallengeScoreUpdater {
+
+    private static final int BATCH_USERS = 500;
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeScoreCalculator scoreCalculator;
+    private final ChallengeLeaderboard leaderboard;
+    private final DailyRollupWriter rollupWriter;
+    private final MeterRegistry meterRegistry;
+
+    //종료된 챌린지 순위 보관 기간
+    @Value("${challenge.leaderboard-retention-days:30}")
+    private long retentionDays;
+
+    private final Set<Integer> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    private Counter flushedScores;
+
+    @PostConstruct
+    void init() {
+        flushedScores = Counter.builder("challenge.leaderboard.updates").register(meterRegistry);
+        Gauge.builder("challenge.leaderboard.pending", dirtyUsers, Set::size).register(meterRegistry);
+    }
+
+    //기록 저장/삭제 commit 후 호출
+    public void markDirty(Integer userId) {
+        dirtyUsers.add(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${challenge.flush-interval-ms:5000}")
+    public void flush() {
+        if (dirtyUsers.isEmpty()) return;
+
+        List<Integer> users = new ArrayList<>();
+        for (Iterator<Integer> iterator = dirtyUsers.iterator(); iterator.hasNext(); ) {
+            users.add(iterator.next());
+            iterator.remove();
+        }
+
+        try {
+            LocalDate today = rollupWriter.dayOf(Instant.now());
+            List<Challenge> active = challengeRepository.findActive(today);
+
+            for (int from = 0; from < users.size(); from += BATCH_USERS) {
+                List<Integer> batch = users.subList(from, Math.min(from + BATCH_USERS, users.size()));
+
+                Map<Long, Map<Integer, Double>> scores = new HashMap<>();
+                for (Challenge challenge : active) {
+                    Map<Integer, Double> challengeScores = scoreCalculator.scores(challenge,
+                            scoreCalculator.participants(challenge.getId(), batch), today);
+                    if (!challengeScores.isEmpty()) scores.put(challenge.getId(), challengeScores);
+                }
+
+                leaderboard.addAll(scores);
+                scores.values().forEach(challengeScores -> flushedScores.increment(challengeScores.size()));
+            }
+        } catch (Exception e) {
+            //다음 주기에 다시 계산
+            dirtyUsers.addAll(users);
+            e.printStackTrace();
+        }
+    }
+
+    //진행 중 + 어제 끝난 챌린지 (마지막 날 확정) 전체 재계산, redis가 비워진 경우의 복구도 겸함
+    @Scheduled(cron = "${challenge.recompute-cron:0 5 0 * * *}", zone = "${statistics.time-zone:Asia/Seoul}")
+    public void recomputeAll() {
+        LocalDate today = rollupWriter.dayOf(Instant.now());
+
+        for (Challenge challenge : challengeRepository.findEndingOnOrAfter(today.minusDays(1))) {
+            if (today.isBefore(challenge.getStartDay())) continue;
+
+            try {
+                recompute(challenge, today);
+            } catch (Exception e) {
+                //실패한 챌린지는 다음 날 또는 기록 변경 시 갱신
+                e.printStackTrace();
+            }
+        }
+    }
+
+    //user_id 순 page마다 rollup 쿼리 한 번 + pipeline 한 번
+    public void recompute(Challenge challenge, LocalDate today) {
+        int afterUserId = 0;
+
+        while (true) {
+            List<ChallengeScoreCalculator.Participant> page = scoreCalculator.participants(challenge.getId(), afterUserId, BATCH_USERS);
+            if (page.isEmpty()) break;
+
+            Map<Integer, Double> scores = scoreCalculator.scores(challenge, page, today);
+            leaderboard.addAll(Map.of(challenge.getId(), scores));
+            flushedScores.increment(scores.size());
+
+            afterUserId = page.get(page.size() - 1).userId();
+            if (page.size() < BATCH_USERS) break;
+        }
+
+        if (challenge.isEnded(today)) leaderboard.expire(challenge.getId(), TimeUnit.DAYS.toMillis(retentionDays));
+    }
+}
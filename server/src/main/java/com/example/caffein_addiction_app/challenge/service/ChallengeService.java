@@ -0,0 +1,18 @@
+package com.example.caffein_addiction_app.challenge.service;
+
+import com.example.caffein_addiction_app.challenge.dto.request.CreateChallengeRequestDto;
+import com.example.caffein_addiction_app.challenge.dto.response.CreateChallengeResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetChallengesResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetLeaderboardResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetMyRankResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.JoinChallengeResponseDto;
+import org.springframework.http.ResponseEntity;
+
+public interface ChallengeService {
+
+    ResponseEntity<? super CreateChallengeResponseDto> createChallenge(CreateChallengeRequestDto dto);
+    ResponseEntity<? super GetChallengesResponseDto> getChallenges();
+    ResponseEntity<? super JoinChallengeResponseDto> joinChallenge(Integer userId, Long challengeId);
+    ResponseEntity<? super GetLeaderboardResponseDto> getLeaderboard(Long challengeId, int limit);
+    ResponseEntity<? super GetMyRankResponseDto> getMyRank(Integer userId, Long challengeId, int radius);
+}
@@ -0,0 +1,179 @@
+package com.example.caffein_addiction_app.challenge.service;
+
+import com.example.caffein_addiction_app.auth.entity.User;
+import com.example.caffein_addiction_app.auth.repository.UserRepository;
+import com.example.caffein_addiction_app.challenge.dto.request.CreateChallengeRequestDto;
+import com.example.caffein_addiction_app.challenge.dto.response.ChallengeDto;
+import com.example.caffein_addiction_app.challenge.dto.response.CreateChallengeResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetChallengesResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetLeaderboardResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.GetMyRankResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.JoinChallengeResponseDto;
+import com.example.caffein_addiction_app.challenge.dto.response.LeaderboardEntryDto;
+import com.example.caffein_addiction_app.challenge.entity.Challenge;
+import com.example.caffein_addiction_app.challenge.entity.ChallengeMetric;
+import com.example.caffein_addiction_app.challenge.entity.ChallengeParticipant;
+import com.example.caffein_addiction_app.challenge.repository.ChallengeParticipantRepository;
+import com.example.caffein_addiction_app.challenge.repository.ChallengeRepository;
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ChallengeServiceImpl implements ChallengeService {
+
+    private static final int MAX_LEADERBOARD_LIMIT = 100;
+    private static final int MAX_RADIUS = 25;
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeParticipantRepository participantRepository;
+    private final UserRepository userRepository;
+    private final ChallengeScoreCalculator scoreCalculator;
+    private final ChallengeScoreUpdater scoreUpdater;
+    private final ChallengeLeaderboard leaderboard;
+    private final DailyRollupWriter rollupWriter;
+
+    @Override
+    public ResponseEntity<? super CreateChallengeResponseDto> createChallenge(CreateChallengeRequestDto dto) {
+
+        ChallengeMetric metric = ChallengeMetric.of(dto.getMetric());
+        if (metric == null || dto.getEndDate().isBefore(dto.getStartDate())) return ResponseDto.validationFailed();
+
+        Challenge challenge;
+
+        try {
+            challenge = challengeRepository.save(new Challenge(dto, metric));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return CreateChallengeResponseDto.success(ChallengeDto.from(challenge));
+    }
+
+    @Override
+    public ResponseEntity<? super GetChallengesResponseDto> getChallenges() {
+
+        List<Challenge> challenges;
+
+        try {
+            challenges = challengeRepository.findEndingOnOrAfter(today());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return GetChallengesResponseDto.success(challenges.stream().map(ChallengeDto::from).toList());
+    }
+
+    @Override
+    public ResponseEntity<? super JoinChallengeResponseDto> joinChallenge(Integer userId, Long challengeId) {
+
+        LocalDate today = today();
+        boolean joined;
+
+        try {
+            Optional<Challenge> challengeOpt = challengeRepository.findById(challengeId);
+            if (challengeOpt.isEmpty()) return JoinChallengeResponseDto.notExistedChallenge();
+
+            Challenge challenge = challengeOpt.get();
+            if (challenge.isEnded(today)) return ResponseDto.validationFailed();
+
+            joined = !participantRepository.existsByChallengeIdAndUserId(challengeId, userId);
+            if (joined) {
+                //기준은 min(오늘, 시작일) 직전 기간 -> 종료 전 참가면 항상 오늘
+                //진행 중 참가: 챌린지 기간 기록이 기준에 섞이지 않음, 시작 전 참가: 아직 오지 않은 날이 0으로 평균에 들어가지 않음
+                double baseline = scoreCalculator.baselineDailyAmount(userId, today);
+                participantRepository.save(new ChallengeParticipant(challengeId, userId, baseline));
+            }
+        } catch (DataIntegrityViolationException e) {
+            //같은 사용자의 동시 참가 요청
+            joined = false;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        //다음 flush에 점수 등록 (시작 전이면 시작일 재계산 때)
+        if (joined) scoreUpdater.markDirty(userId);
+
+        return JoinChallengeResponseDto.success(challengeId, joined);
+    }
+
+    @Override
+    public ResponseEntity<? super GetLeaderboardResponseDto> getLeaderboard(Long challengeId, int limit) {
+
+        if (limit < 1 || limit > MAX_LEADERBOARD_LIMIT) return ResponseDto.validationFailed();
+
+        Challenge challenge;
+        long participants;
+        List<LeaderboardEntryDto> entries;
+
+        try {
+            Optional<Challenge> challengeOpt = challengeRepository.findById(challengeId);
+            if (challengeOpt.isEmpty()) return GetLeaderboardResponseDto.notExistedChallenge();
+
+            challenge = challengeOpt.get();
+            participants = leaderboard.size(challengeId);
+            entries = withNames(leaderboard.top(challengeId, limit));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return GetLeaderboardResponseDto.success(challengeId, challenge.getMetric().getTag(), participants, entries);
+    }
+
+    @Override
+    public ResponseEntity<? super GetMyRankResponseDto> getMyRank(Integer userId, Long challengeId, int radius) {
+
+        if (radius < 0 || radius > MAX_RADIUS) return ResponseDto.validationFailed();
+
+        ChallengeLeaderboard.Entry mine;
+        long participants;
+        List<LeaderboardEntryDto> entries;
+
+        try {
+            if (!challengeRepository.existsById(challengeId)) return GetMyRankResponseDto.notExistedChallenge();
+
+            participants = leaderboard.size(challengeId);
+            mine = leaderboard.rankOf(challengeId, userId);
+            entries = mine == null ? List.of() : withNames(leaderboard.around(challengeId, mine.rank(), radius));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        if (mine == null) return GetMyRankResponseDto.success(challengeId, null, null, participants, entries);
+        return GetMyRankResponseDto.success(challengeId, mine.rank() + 1, mine.score(), participants, entries);
+    }
+
+    //이름은 한 번에 조회, 탈퇴 등으로 없는 사용자는 null
+    private List<LeaderboardEntryDto> withNames(List<ChallengeLeaderboard.Entry> entries) {
+        if (entries.isEmpty()) return List.of();
+
+        Map<Integer, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(entries.stream().map(ChallengeLeaderboard.Entry::userId).toList())) {
+            names.put(user.getId(), user.getName());
+        }
+
+        return entries.stream()
+                .map(entry -> new LeaderboardEntryDto(entry.rank() + 1, entry.userId(), names.get(entry.userId()), entry.score()))
+                .toList();
+    }
+
+    private LocalDate today() {
+        return rollupWriter.dayOf(Instant.now());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.caffein_addiction_app.common;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+//int key -> 지수 감쇠하는 누적값 하나 (값 A, 기준 시각 t0) -> 시각 t의 값 = A * 0.5^((t - t0) / halfLife)
+//새 값 추가도 조회도 O(1), 과거 기록을 다시 훑지 않음
+//boxing 없는 open addressing 배열, segment 단위 lock
+public final class DecayingAccumulatorMap {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private final double decayPerMilli;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    public DecayingAccumulatorMap(long halfLifeMillis, int segmentCount, int initialCapacity) {
+        this.decayPerMilli = Math.log(2) / halfLifeMillis;
+
+        int count = Integer.highestOneBit(Math.max(1, segmentCount - 1)) << 1;
+        this.segments = new Segment[count];
+        this.segmentMask = count - 1;
+
+        //하위 bit는 segment 선택, 나머지 bit로 segment 안 slot 선택
+        int shift = Integer.numberOfTrailingZeros(count);
+        int perSegment = Math.max(16, initialCapacity / count);
+        for (int i = 0; i < count; i++) segments[i] = new Segment(perSegment, shift);
+    }
+
+    //elapsedMillis 동안 남는 비율
+    public double decay(long elapsedMillis) {
+        return Math.exp(-decayPerMilli * elapsedMillis);
+    }
+
+    //nowMillis 시점 값, 없거나 loadedAtMillis가 freshAfterMillis보다 오래됐으면 NaN
+    public double valueAt(int key, long nowMillis, long freshAfterMillis) {
+        Segment segment = segments[mix(key) & segmentMask];
+
+        synchronized (segment) {
+            int index = segment.indexOf(key);
+            if (index < 0 || segment.loadedAt[index] < freshAfterMillis) return Double.NaN;
+            return segment.amounts[index] * decay(nowMillis - segment.times[index]);
+        }
+    }
+
+    //있는 key에만 더함 (없으면 false -> 호출 쪽에서 다시 계산해서 put)
+    public boolean add(int key, long atMillis, double amount) {
+        Segment segment = segments[mix(key) & segmentMask];
+
+        synchronized (segment) {
+            int index = segment.indexOf(key);
+            if (index < 0) return false;
+
+            long reference = segment.times[index];
+            if (atMillis >= reference) {
+                segment.amounts[index] = segment.amounts[index] * decay(atMillis - reference) + amount;
+                segment.times[index] = atMillis;
+            } else {
+                //기준 시각보다 과거 기록 -> 기준 시각까지 감쇠시킨 양만 더함
+                segment.amounts[index] += amount * decay(reference - atMillis);
+            }
+            return true;
+        }
+    }
+
+    public void put(int key, double amount, long atMillis, long loadedAtMillis) {
+        Segment segment = segments[mix(key) & segmentMask];
+
+        synchronized (segment) {
+            segment.put(key, amount, atMillis, loadedAtMillis);
+        }
+    }
+
+    //condition이 참일 때만 넣음 (있으면 덮어씀) -> 넣었으면 true
+    //condition은 segment lock 안에서 확인 -> 확인 뒤에 시작한 add는 넣은 값 위에 더해짐
+    public boolean putIf(int key, double amount, long atMillis, long loadedAtMillis, BooleanSupplier condition) {
+        Segment segment = segments[mix(key) & segmentMask];
+
+        synchronized (segment) {
+            if (!condition.getAsBoolean()) return false;
+            segment.put(key, amount, atMillis, loadedAtMillis);
+            return true;
+        }
+    }
+
+    //nowMillis 기준 값이 epsilon 미만으로 줄었거나 loadedAt이 staleBeforeMillis 이전인 항목 제거 -> 제거한 개수
+    public int purge(long nowMillis, double epsilon, long staleBeforeMillis) {
+        int removed = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                removed += segment.purge(this, nowMillis, epsilon, staleBeforeMillis);
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Segment {
+
+        private final int shift;
+        private int[] keys;
+        private double[] amounts;
+        private long[] times;
+        private long[] loadedAt;
+        private int size;
+
+        private Segment(int capacity, int shift) {
+            this.shift = shift;
+            allocate(Integer.highestOneBit(Math.max(2, capacity - 1)) << 1);
+        }
+
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            amounts = new double[capacity];
+            times = new long[capacity];
+            loadedAt = new long[capacity];
+            size = 0;
+        }
+
+        //있으면 index, 없으면 -(빈 slot + 1)
+        private int indexOf(int key) {
+            int mask = keys.length - 1;
+            int index = (mix(key) >>> shift) & mask;
+
+            while (keys[index] != EMPTY) {
+                if (keys[index] == key) return index;
+                index = (index + 1) & mask;
+            }
+            return -(index + 1);
+        }
+
+        private void put(int key, double amount, long atMillis, long loadedAtMillis) {
+            int index = indexOf(key);
+
+            if (index < 0) {
+                //load factor 0.5 초과 시 2배
+                if ((size + 1) * 2 > keys.length) {
+                    rehash(keys.length * 2, null, 0, 0, Long.MIN_VALUE);
+                    index = indexOf(key);
+                }
+                index = -(index + 1);
+                keys[index] = key;
+                size++;
+            }
+
+            amounts[index] = amount;
+            times[index] = atMillis;
+            loadedAt[index] = loadedAtMillis;
+        }
+
+        private int purge(DecayingAccumulatorMap map, long nowMillis, double epsilon, long staleBeforeMillis) {
+            int before = size;
+            rehash(keys.length, map, nowMillis, epsilon, staleBeforeMillis);
+            return before - size;
+        }
+
+        //linear probing은 중간 삭제가 까다로워서 남길 항목만 새 배열로 다시 넣음
+        private void rehash(int capacity, DecayingAccumulatorMap map, long nowMillis, double epsilon, long staleBeforeMillis) {
+            int[] oldKeys = keys;
+            double[] oldAmounts = amounts;
+            long[] oldTimes = times;
+            long[] oldLoadedAt = loadedAt;
+
+            allocate(capacity);
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) continue;
+
+                if (map != null) {
+                    if (oldLoadedAt[i] < staleBeforeMillis) continue;
+                    if (oldAmounts[i] * map.decay(nowMillis - oldTimes[i]) < epsilon) continue;
+                }
+
+                int index = -(indexOf(oldKeys[i]) + 1);
+                keys[index] = oldKeys[i];
+                amounts[index] = oldAmounts[i];
+                times[index] = oldTimes[i];
+                loadedAt[index] = oldLoadedAt[i];
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.caffein_addiction_app.common;
+
+//검색용 문자열 정규화: 한글 음절은 호환 자모로 풀고 겹모음/겹받침도 낱자로 나눔, 나머지는 소문자
+//"스타벅" 입력 중 "스타벅ㅅ", "달" 입력 중 "닭"처럼 조합이 끝나지 않은 글자도 prefix로 매칭됨
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char COMPAT_JAMO_FIRST = 0x3131;
+    private static final char COMPAT_JAMO_LAST = 0x3163;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    //호환 자모 하나 (ㄳ, ㅘ ...)를 입력한 경우도 같은 낱자로
+    private static final String[] COMPAT_JAMO = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_FIRST + 1];
+
+    static {
+        for (String[] table : new String[][]{CHOSEONG, JUNGSEONG, JONGSEONG}) {
+            for (String jamo : table) {
+                if (jamo.isEmpty()) continue;
+                if (jamo.length() == 1) COMPAT_JAMO[jamo.charAt(0) - COMPAT_JAMO_FIRST] = jamo;
+            }
+        }
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"},
+                {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) COMPAT_JAMO[compound[0].charAt(0) - COMPAT_JAMO_FIRST] = compound[1];
+    }
+
+    private HangulJamo() {
+    }
+
+    //연속 공백은 하나로, 앞뒤 공백 제거
+    public static String normalize(CharSequence text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = result.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                result.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                result.append(CHOSEONG[index / 588]).append(JUNGSEONG[index % 588 / 28]).append(JONGSEONG[index % 28]);
+            } else if (c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST && COMPAT_JAMO[c - COMPAT_JAMO_FIRST] != null) {
+                result.append(COMPAT_JAMO[c - COMPAT_JAMO_FIRST]);
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+
+        return result.toString();
+    }
+}
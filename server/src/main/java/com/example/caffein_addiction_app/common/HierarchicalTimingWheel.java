@@ -0,0 +1,194 @@
+package com.example.caffein_addiction_app.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//int key -> 만료 시각 하나 (같은 key로 다시 등록하면 교체)
+//계층 timing wheel: level마다 64칸, level L 한 칸 = 64^L tick
+//등록/교체/취소는 칸 계산 + 이중 연결 리스트 삽입/제거라 O(1), 전체 timer를 정렬하거나 훑지 않음
+//상위 level 칸은 그 구간에 들어설 때 한 번 하위 level로 내려감 (timer당 최대 level 수만큼 이동)
+//최상위 level 범위를 넘는 timer는 최상위 마지막 칸에 두고 내려올 때 다시 계산
+public final class HierarchicalTimingWheel {
+
+    public interface ExpiryHandler {
+        void expired(int key, long dueMillis);
+    }
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    //만료되어 칸에서 떼어냈지만 handler 호출 전인 timer
+    private static final int DETACHED = -1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final Node[] heads;
+    private final Map<Integer, Node> nodes = new HashMap<>();
+
+    //여기까지 처리한 tick
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels < 1 || levels * SLOT_BITS > 60) throw new IllegalArgumentException("invalid wheel size");
+
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.heads = new Node[levels * SLOTS];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    //이미 지난 시각이면 다음 tick에 만료, 기존 timer를 교체했으면 true
+    public synchronized boolean schedule(int key, long dueMillis) {
+        Node node = nodes.get(key);
+        boolean replaced = node != null;
+
+        if (!replaced) nodes.put(key, node = new Node(key));
+        else if (node.slot != DETACHED) unlink(node);
+
+        node.dueMillis = dueMillis;
+        place(node, currentTick + 1);
+        return replaced;
+    }
+
+    public synchronized boolean cancel(int key) {
+        Node node = nodes.remove(key);
+        if (node == null) return false;
+
+        if (node.slot != DETACHED) unlink(node);
+        return true;
+    }
+
+    //timer가 없으면 -1
+    public synchronized long dueMillis(int key) {
+        Node node = nodes.get(key);
+        return node == null ? -1 : node.dueMillis;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    //nowMillis까지 tick을 진행하며 만료된 timer를 제거하고 handler 호출
+    //handler 안에서 다시 등록/취소 가능 (같은 tick에 만료될 다른 timer를 취소/교체하면 그 timer는 호출되지 않음)
+    //반환값: 만료된 timer 수
+    public int advance(long nowMillis, ExpiryHandler handler) {
+        long targetTick = nowMillis / tickMillis;
+        int expired = 0;
+        List<Node> due = new ArrayList<>();
+
+        while (true) {
+            synchronized (this) {
+                if (currentTick >= targetTick) return expired;
+
+                currentTick++;
+                cascade();
+
+                //level 0 칸은 한 tick 분량 -> 통째로 떼어냄
+                int index = (int) (currentTick & SLOT_MASK);
+                Node node = heads[index];
+                heads[index] = null;
+                while (node != null) {
+                    Node next = node.next;
+                    node.slot = DETACHED;
+                    node.prev = null;
+                    node.next = null;
+                    due.add(node);
+                    node = next;
+                }
+            }
+
+            //lock 밖에서 호출, 앞선 handler가 취소/교체한 timer는 건너뜀
+            int i = 0;
+            try {
+                for (; i < due.size(); i++) {
+                    Node node = due.get(i);
+                    synchronized (this) {
+                        if (node.slot != DETACHED || nodes.get(node.key) != node) continue;
+                        nodes.remove(node.key);
+                    }
+                    handler.expired(node.key, node.dueMillis);
+                    expired++;
+                }
+            } finally {
+                //handler 예외로 중단되면 남은 timer는 다음 tick에 다시
+                if (i < due.size()) restore(due.subList(i + 1, due.size()));
+                due.clear();
+            }
+        }
+    }
+
+    private synchronized void restore(List<Node> detached) {
+        for (Node node : detached) {
+            if (node.slot == DETACHED && nodes.get(node.key) == node) place(node, currentTick + 1);
+        }
+    }
+
+    //새 tick이 level L 구간의 시작이면 그 칸의 timer를 다시 배치 (위 level부터)
+    private void cascade() {
+        for (int level = levels - 1; level >= 1; level--) {
+            int shift = level * SLOT_BITS;
+            if ((currentTick & ((1L << shift) - 1)) != 0) continue;
+
+            int index = level * SLOTS + (int) ((currentTick >>> shift) & SLOT_MASK);
+            Node node = heads[index];
+            heads[index] = null;
+
+            while (node != null) {
+                Node next = node.next;
+                //이번 tick에 만료되는 것은 바로 아래에서 level 0 칸과 함께 처리됨
+                place(node, currentTick);
+                node = next;
+            }
+        }
+    }
+
+    //due tick과 현재 tick의 level L 구간 차이가 64 미만인 가장 낮은 level
+    private void place(Node node, long minTick) {
+        long dueTick = Math.max(node.dueMillis / tickMillis, minTick);
+
+        int slot = -1;
+        for (int level = 0; level < levels; level++) {
+            int shift = level * SLOT_BITS;
+            if ((dueTick >>> shift) - (currentTick >>> shift) < SLOTS) {
+                slot = level * SLOTS + (int) ((dueTick >>> shift) & SLOT_MASK);
+                break;
+            }
+        }
+
+        //범위 밖 -> 최상위 level의 가장 먼 칸
+        if (slot < 0) {
+            int shift = (levels - 1) * SLOT_BITS;
+            slot = (levels - 1) * SLOTS + (int) (((currentTick >>> shift) + SLOT_MASK) & SLOT_MASK);
+        }
+
+        node.slot = slot;
+        node.prev = null;
+        node.next = heads[slot];
+        if (node.next != null) node.next.prev = node;
+        heads[slot] = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) node.prev.next = node.next;
+        else heads[node.slot] = node.next;
+        if (node.next != null) node.next.prev = node.prev;
+
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static final class Node {
+
+        private final int key;
+        private long dueMillis;
+        private int slot;
+        private Node prev;
+        private Node next;
+
+        private Node(int key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.caffein_addiction_app.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//내용이 항상 같은 거절 응답은 시작할 때 한 번만 JSON으로 직렬화해두고 byte[]를 그대로 씀
+public final class PreEncodedResponse {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    //byte[]는 identity 기준 hashCode/equals -> 미리 만든 body별 status 조회 (메트릭 태그용)
+    private static final Map<byte[], String> STATUS_BY_BODY = new ConcurrentHashMap<>();
+
+    private PreEncodedResponse() {
+    }
+
+    public static byte[] encode(Integer code, String status, String message) {
+        try {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(new ResponseDto(code, status, message));
+            STATUS_BY_BODY.put(body, status);
+            return body;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //ResponseDto 또는 미리 직렬화한 body의 status 코드 (SU, LF, IRT ...)
+    public static String statusOf(Object body) {
+        if (body instanceof ResponseDto responseDto) return responseDto.getStatus();
+        if (body instanceof byte[] bytes) return STATUS_BY_BODY.getOrDefault(bytes, "UNKNOWN");
+        return "UNKNOWN";
+    }
+
+    //ResponseEntity는 불변이라 상수로 재사용 가능 (byte[] body는 ByteArrayHttpMessageConverter가 그대로 씀)
+    public static ResponseEntity<Object> entity(HttpStatus httpStatus, Integer code, String status, String message) {
+        return ResponseEntity.status(httpStatus)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encode(code, status, message));
+    }
+
+    //필터/entry point처럼 MVC 밖에서 직접 쓰는 경우
+    public static void write(HttpServletResponse response, int httpStatus, byte[] body) throws IOException {
+        response.setStatus(httpStatus);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -10,12 +10,39 @@ import org.springframework.http.ResponseEntity;
 @AllArgsConstructor
 public class ResponseDto {
 
+    private static final ResponseEntity<Object> VALIDATION_FAILED =
+            PreEncodedResponse.entity(HttpStatus.BAD_REQUEST, 400, ResponseStatus.VALIDATION_FAILED, ResponseMessage.VALIDATION_FAILED);
+    private static final ResponseEntity<Object> DATABASE_ERROR =
+            PreEncodedResponse.entity(HttpStatus.INTERNAL_SERVER_ERROR, 500, ResponseStatus.DATABASE_ERROR, ResponseMessage.DATABASE_ERROR);
+    private static final ResponseEntity<Object> NO_PERMISSION =
+            PreEncodedResponse.entity(HttpStatus.FORBIDDEN, 403, ResponseStatus.NO_PERMISSION, ResponseMessage.NO_PERMISSION);
+    private static final ResponseEntity<Object> TOO_MANY_REQUESTS =
+            PreEncodedResponse.entity(HttpStatus.TOO_MANY_REQUESTS, 429, ResponseStatus.TOO_MANY_REQUESTS, ResponseMessage.TOO_MANY_REQUESTS);
+    private static final ResponseEntity<Object> SERVER_BUSY =
+            PreEncodedResponse.entity(HttpStatus.SERVICE_UNAVAILABLE, 503, ResponseStatus.SERVER_BUSY, ResponseMessage.SERVER_BUSY);
+
     private Integer code;
     private String status;
     private String message;
 
-    public static ResponseEntity<ResponseDto> databaseError(){
-        ResponseDto result = new ResponseDto(500, ResponseStatus.DATABASE_ERROR, ResponseMessage.DATABASE_ERROR);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+    //내용이 고정된 응답은 미리 직렬화해둔 상수 재사용
+    public static ResponseEntity<Object> validationFailed(){
+        return VALIDATION_FAILED;
+    }
+
+    public static ResponseEntity<Object> databaseError(){
+        return DATABASE_ERROR;
+    }
+
+    public static ResponseEntity<Object> noPermission(){
+        return NO_PERMISSION;
+    }
+
+    public static ResponseEntity<Object> tooManyRequests(){
+        return TOO_MANY_REQUESTS;
+    }
+
+    public static ResponseEntity<Object> serverBusy(){
+        return SERVER_BUSY;
     }
 }
@@ -9,6 +9,9 @@ public interface ResponseMessage {
     String VALIDATION_FAILED = "Validation Failed.";
     String DUPLICATE_EMAIL = "Duplication Email.";
     String NOT_EXISTED_USER = "This user does not exist";
+    String NOT_EXISTED_INTAKE = "This intake does not exist";
+    String NOT_EXISTED_DRINK = "This drink does not exist";
+    String NOT_EXISTED_CHALLENGE = "This challenge does not exist";
 
     //401
     String LOG_IN_FAIL = "Login information mismatch";
@@ -20,6 +23,12 @@ public interface ResponseMessage {
     //403
     String NO_PERMISSION = "Do not have permission";
 
+    //429
+    String TOO_MANY_REQUESTS = "Too many requests.";
+
     //500
     String DATABASE_ERROR = "Internal Server Error";
+
+    //503
+    String SERVER_BUSY = "Server is busy. Please try again later.";
 }
@@ -9,6 +9,9 @@ public interface ResponseStatus {
     String VALIDATION_FAILED = "VF";
     String DUPLICATE_EMAIL = "DE";
     String NOT_EXISTED_USER = "NU";
+    String NOT_EXISTED_INTAKE = "NI";
+    String NOT_EXISTED_DRINK = "ND";
+    String NOT_EXISTED_CHALLENGE = "NC";
 
     //401
     String LOG_IN_FAIL = "LF";
@@ -21,6 +24,12 @@ public interface ResponseStatus {
     //403
     String NO_PERMISSION = "NP";
 
+    //429
+    String TOO_MANY_REQUESTS = "TMR";
+
     //500
     String DATABASE_ERROR = "DBE";
+
+    //503
+    String SERVER_BUSY = "SB";
 }
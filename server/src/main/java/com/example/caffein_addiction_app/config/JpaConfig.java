@@ -0,0 +1,70 @@
+package com.example.caffein_addiction_app.config;
+
+import com.example.caffein_addiction_app.auth.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Configuration
+@RequiredArgsConstructor
+public class JpaConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //spring.jpa.properties로 따로 지정하지 않았으면 insert batching 켬
+    //MySQL 드라이버가 batch를 multi-row insert로 보내려면 url에 rewriteBatchedStatements=true 필요
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${jpa.jdbc-batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+        };
+    }
+
+    //IDENTITY -> users_seq 전환 migration: 테이블이 없으면 만들고 한 행으로 초기화, 기존 auto increment id 뒤로 이동
+    //pooled optimizer는 읽은 값 - (allocationSize - 1) 부터 쓰므로 allocationSize만큼 더함
+    //모든 singleton 생성 후 (EntityManagerFactory의 ddl-auto 처리 뒤) 웹 서버가 요청을 받기 전에 실행, 실패하면 기동 중단
+    @Bean
+    public SmartInitializingSingleton userIdSequenceMigration(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            try {
+                jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    migrateUserIdSequence(connection);
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException("users_seq migration failed", e);
+            }
+        };
+    }
+
+    //named lock은 connection 단위 -> 같은 connection에서 실행
+    //여러 인스턴스가 동시에 기동해도 초기 행은 하나만 생김
+    private static void migrateUserIdSequence(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet locked = statement.executeQuery("SELECT GET_LOCK('users_seq_migration', 30)")) {
+                if (!locked.next() || locked.getInt(1) != 1) throw new SQLException("users_seq migration lock not acquired");
+            }
+
+            try {
+                statement.execute("CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE=InnoDB");
+                statement.executeUpdate("INSERT INTO users_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq)");
+                statement.executeUpdate("UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + "
+                        + User.ID_ALLOCATION_SIZE + " FROM users))");
+            } finally {
+                statement.executeQuery("SELECT RELEASE_LOCK('users_seq_migration')").close();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.caffein_addiction_app.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+//spring.threads.virtual.enabled=true 이면 tomcat 요청 처리(= UserRepository, StringRedisTemplate 호출 포함)가 virtual thread에서 실행됨
+//Java 21 미만에서는 스프링이 설정을 조용히 무시하므로 시작 시점에 실패시킴
+//BCrypt 해싱은 CPU 작업이라 PasswordHashingService의 platform thread pool에 그대로 둠
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    @PostConstruct
+    void verifyRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled requires Java " + MIN_JAVA_VERSION
+                    + " or later but running on Java " + feature + ". Build with -PjavaVersion=" + MIN_JAVA_VERSION + ".");
+        }
+    }
+}
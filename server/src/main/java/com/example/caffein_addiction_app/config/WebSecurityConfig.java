@@ -1,27 +1,40 @@
 package com.example.caffein_addiction_app.config;
 
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.ratelimit.RateLimitFilter;
 import com.example.caffein_addiction_app.token.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
 
 @Configuration
 @EnableWebSecurity
@@ -29,6 +42,18 @@ import java.io.IOException;
 public class WebSecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    //actuator 전용 포트 (defaults.properties), 서비스 포트와 같거나 없으면 actuator도 인증 필요
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    //관리자 API(/api/admin/**) 공통 키, X-Provisioning-Key 헤더로 받음 (비어 있으면 관리자 API 비활성화)
+    @Value("${provisioning.api-key:}")
+    private String adminApiKey;
 
     @Bean
     protected SecurityFilterChain configure(HttpSecurity httpSecurity) throws Exception{
@@ -42,24 +67,53 @@ public class WebSecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(request -> request
+                        //SSE / StreamingResponseBody 완료 시의 async dispatch (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/","/api/auth/login","/api/auth/register","/api/auth/refresh").permitAll()
+                        //관리자 API는 JWT 대신 X-Provisioning-Key로 확인
+                        .requestMatchers("/api/admin/**").access(this::checkAdminKey)
+                        //음료 목록은 로그인 전 화면에서도 사용
+                        .requestMatchers(HttpMethod.GET, "/api/catalog", "/api/catalog/**").permitAll()
+                        //management 포트로 들어온 요청(actuator)만 허용, 서비스 포트로는 노출하지 않음
+                        .requestMatchers(this::isManagementRequest).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exceptionHandling -> exceptionHandling
                         .authenticationEntryPoint(new FailedAuthenticationEntryPoint())
+                        .accessDeniedHandler(new FailedAccessDeniedHandler())
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return httpSecurity.build();
     }
 
-    class FailedAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private boolean isManagementRequest(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+    }
+
+    private AuthorizationDecision checkAdminKey(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        String key = context.getRequest().getHeader("X-Provisioning-Key");
+        if (adminApiKey.isEmpty() || key == null) return new AuthorizationDecision(false);
+        return new AuthorizationDecision(MessageDigest.isEqual(adminApiKey.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static class FailedAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+        private static final byte[] NO_PERMISSION_BODY = PreEncodedResponse.encode(403, ResponseStatus.NO_PERMISSION, "Do not have permission.");
 
         @Override
         public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authenticationException) throws IOException, ServletException {
-            response.setContentType("application//json");
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            response.getWriter().write("{\"code\":403,\"code\":\"NP\",\"message\":\"Do not have permission.\"}");
+            PreEncodedResponse.write(response, HttpServletResponse.SC_FORBIDDEN, NO_PERMISSION_BODY);
+        }
+    }
+
+    //로그인한 사용자가 관리자 API를 키 없이 호출한 경우도 같은 응답
+    static class FailedAccessDeniedHandler implements AccessDeniedHandler {
+
+        @Override
+        public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
+            PreEncodedResponse.write(response, HttpServletResponse.SC_FORBIDDEN, FailedAuthenticationEntryPoint.NO_PERMISSION_BODY);
         }
     }
 
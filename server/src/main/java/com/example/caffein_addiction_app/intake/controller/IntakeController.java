@@ -0,0 +1,108 @@
+package com.example.caffein_addiction_app.intake.controller;
+
+import com.example.caffein_addiction_app.intake.dto.request.RecordIntakeRequestDto;
+import com.example.caffein_addiction_app.intake.dto.response.CancelExportResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.DeleteIntakeResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetCaffeineCurveResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetCaffeineLevelResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetFavoritesResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetIntakesResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.RecordIntakeResponseDto;
+import com.example.caffein_addiction_app.intake.service.IntakeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/intakes")
+@RequiredArgsConstructor
+public class IntakeController {
+
+    private final IntakeService intakeService;
+
+    @PostMapping
+    public ResponseEntity<? super RecordIntakeResponseDto> recordIntake(@AuthenticationPrincipal Integer userId, @Valid @RequestBody RecordIntakeRequestDto dto) {
+        ResponseEntity<? super RecordIntakeResponseDto> response = intakeService.recordIntake(userId, dto);
+        return response;
+    }
+
+    @DeleteMapping("/{intakeId}")
+    public ResponseEntity<? super DeleteIntakeResponseDto> deleteIntake(@AuthenticationPrincipal Integer userId, @PathVariable Long intakeId) {
+        ResponseEntity<? super DeleteIntakeResponseDto> response = intakeService.deleteIntake(userId, intakeId);
+        return response;
+    }
+
+    //최신순, from 이상 to 미만
+    @GetMapping
+    public ResponseEntity<? super GetIntakesResponseDto> getIntakes(@AuthenticationPrincipal Integer userId,
+                                                                    @RequestParam(required = false) Instant from,
+                                                                    @RequestParam(required = false) Instant to,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "50") int size) {
+        ResponseEntity<? super GetIntakesResponseDto> response = intakeService.getIntakes(userId, from, to, cursor, size);
+        return response;
+    }
+
+    //현재 체내 카페인 (반감기 5.5시간) + 일일 제한량 대비 %
+    @GetMapping("/level")
+    public ResponseEntity<? super GetCaffeineLevelResponseDto> getCaffeineLevel(@AuthenticationPrincipal Integer userId) {
+        ResponseEntity<? super GetCaffeineLevelResponseDto> response = intakeService.getCaffeineLevel(userId);
+        return response;
+    }
+
+    //date(yyyy-MM-dd)부터 days일 동안 step분 간격 레벨 곡선
+    @GetMapping("/level/curve")
+    public ResponseEntity<? super GetCaffeineCurveResponseDto> getCaffeineCurve(@AuthenticationPrincipal Integer userId,
+                                                                                @RequestParam LocalDate date,
+                                                                                @RequestParam(defaultValue = "1") int days,
+                                                                                @RequestParam(defaultValue = "5") int step) {
+        ResponseEntity<? super GetCaffeineCurveResponseDto> response = intakeService.getCaffeineCurve(userId, date, days, step);
+        return response;
+    }
+
+    //level / alert 이벤트 stream (text/event-stream), 의미 있는 변화가 있을 때만 전송
+    @GetMapping(value = "/level/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCaffeineLevel(@AuthenticationPrincipal Integer userId) {
+        ResponseEntity<SseEmitter> response = intakeService.streamCaffeineLevel(userId);
+        return response;
+    }
+
+    //전체 기록 내보내기 (format=ndjson|csv, gzip), 오래된 순으로 stream
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIntakes(@AuthenticationPrincipal Integer userId,
+                                                               @RequestParam(defaultValue = "ndjson") String format,
+                                                               @RequestParam(defaultValue = "false") boolean gzip) {
+        ResponseEntity<StreamingResponseBody> response = intakeService.exportIntakes(userId, format, gzip);
+        return response;
+    }
+
+    //진행 중인 내보내기 중단
+    @DeleteMapping("/export")
+    public ResponseEntity<? super CancelExportResponseDto> cancelExport(@AuthenticationPrincipal Integer userId) {
+        ResponseEntity<? super CancelExportResponseDto> response = intakeService.cancelExport(userId);
+        return response;
+    }
+
+    //빠른 추가 후보 (자주 마신 음료 / 최근 음료 각각 최대 limit개)
+    @GetMapping("/favorites")
+    public ResponseEntity<? super GetFavoritesResponseDto> getFavorites(@AuthenticationPrincipal Integer userId,
+                                                                        @RequestParam(defaultValue = "5") int limit) {
+        ResponseEntity<? super GetFavoritesResponseDto> response = intakeService.getFavorites(userId, limit);
+        return response;
+    }
+
+    //기록에서 빠른 추가 후보를 다시 만듦
+    @PostMapping("/favorites/rebuild")
+    public ResponseEntity<? super GetFavoritesResponseDto> rebuildFavorites(@AuthenticationPrincipal Integer userId) {
+        ResponseEntity<? super GetFavoritesResponseDto> response = intakeService.rebuildFavorites(userId);
+        return response;
+    }
+}
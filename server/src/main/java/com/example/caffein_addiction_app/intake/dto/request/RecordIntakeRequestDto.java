@@ -0,0 +1,36 @@
+package com.example.caffein_addiction_app.intake.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+public class RecordIntakeRequestDto {
+
+    //클라이언트가 정한 기록 id, 같은 값으로 다시 보내면 새로 저장하지 않고 기존 기록 반환 (없으면 서버에서 생성)
+    @Size(max = 64, message = "clientId는 64자 이하여야 합니다.")
+    private String clientId;
+
+    //없으면 서버 시각
+    private Instant timestamp;
+
+    @NotBlank(message = "카테고리는 필수 입력 항목입니다.")
+    private String category;
+
+    private String brand;
+
+    @NotBlank(message = "제품명은 필수 입력 항목입니다.")
+    private String item;
+
+    private String size;
+
+    @NotNull(message = "카페인 함량은 필수 입력 항목입니다.")
+    @PositiveOrZero(message = "카페인 함량은 0 이상이어야 합니다.")
+    private Integer caffeineAmount;
+}
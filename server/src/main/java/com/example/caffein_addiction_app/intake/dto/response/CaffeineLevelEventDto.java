@@ -0,0 +1,27 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//SSE level / alert 이벤트 data
+//다음 이벤트까지는 클라이언트가 level * 0.5^((now - at) / halfLifeHours)로 직접 그림
+@Getter
+@AllArgsConstructor
+public class CaffeineLevelEventDto {
+
+    //at 시점 체내 카페인 (mg)
+    private double level;
+
+    //epoch ms
+    private long at;
+
+    private double halfLifeHours;
+
+    private Integer dailyCaffeineLimit;
+
+    //dailyCaffeineLimit 대비 % (제한량 미설정 시 null)
+    private Double percentage;
+
+    //normal, approaching, over
+    private String band;
+}
@@ -0,0 +1,25 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class CancelExportResponseDto extends ResponseDto {
+
+    //진행 중인 내보내기가 없었으면 false
+    private boolean cancelled;
+
+    private CancelExportResponseDto(boolean cancelled) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.cancelled = cancelled;
+    }
+
+    public static ResponseEntity<CancelExportResponseDto> success(boolean cancelled) {
+        CancelExportResponseDto result = new CancelExportResponseDto(cancelled);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class DeleteIntakeResponseDto extends ResponseDto {
+
+    private DeleteIntakeResponseDto() {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+    }
+
+    public static ResponseEntity<DeleteIntakeResponseDto> success() {
+        DeleteIntakeResponseDto result = new DeleteIntakeResponseDto();
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistedIntake() {
+        ResponseDto result = new ResponseDto(404, ResponseStatus.NOT_EXISTED_INTAKE, ResponseMessage.NOT_EXISTED_INTAKE);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.intake.service.QuickAddFavorites;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+//빠른 추가 후보 (그대로 기록 추가 요청에 사용)
+@Getter
+@AllArgsConstructor
+public class FavoriteDrinkDto {
+
+    private String category;
+    private String brand;
+    private String item;
+    private String size;
+    private Integer caffeineAmount;
+
+    //자주 마신 음료: 반감기 감쇠를 적용한 횟수
+    private Double count;
+
+    //최근 음료: 마지막으로 마신 시각
+    private Instant lastConsumedAt;
+
+    public static FavoriteDrinkDto frequent(QuickAddFavorites.Favorite favorite) {
+        return new FavoriteDrinkDto(favorite.category(), favorite.brand(), favorite.item(), favorite.size(),
+                favorite.caffeineAmount(), favorite.count(), null);
+    }
+
+    public static FavoriteDrinkDto recent(QuickAddFavorites.Favorite favorite) {
+        return new FavoriteDrinkDto(favorite.category(), favorite.brand(), favorite.item(), favorite.size(),
+                favorite.caffeineAmount(), null, favorite.lastAt());
+    }
+}
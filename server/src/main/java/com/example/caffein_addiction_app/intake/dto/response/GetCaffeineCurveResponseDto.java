@@ -0,0 +1,38 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.intake.service.CaffeineCurveCache;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+@Getter
+public class GetCaffeineCurveResponseDto extends ResponseDto {
+
+    //첫 샘플 시각, 이후 stepMinutes 간격
+    private Instant start;
+    private int stepMinutes;
+    private int sampleCount;
+
+    //samples 인코딩 방식 (float32-le-base64)
+    private String encoding;
+    private String samples;
+
+    private GetCaffeineCurveResponseDto(CaffeineCurveCache.Curve curve) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.start = Instant.ofEpochMilli(curve.startMillis());
+        this.stepMinutes = curve.stepMinutes();
+        this.sampleCount = curve.sampleCount();
+        this.encoding = CaffeineCurveCache.ENCODING;
+        this.samples = curve.samples();
+    }
+
+    public static ResponseEntity<GetCaffeineCurveResponseDto> success(CaffeineCurveCache.Curve curve) {
+        GetCaffeineCurveResponseDto result = new GetCaffeineCurveResponseDto(curve);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+@Getter
+public class GetCaffeineLevelResponseDto extends ResponseDto {
+
+    //현재 체내 카페인 (mg)
+    private double level;
+
+    private Integer dailyCaffeineLimit;
+
+    //dailyCaffeineLimit 대비 % (제한량 미설정 시 null)
+    private Double percentage;
+
+    private Instant calculatedAt;
+
+    private GetCaffeineLevelResponseDto(double level, Integer dailyCaffeineLimit, Instant calculatedAt) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.level = level;
+        this.dailyCaffeineLimit = dailyCaffeineLimit;
+        this.percentage = dailyCaffeineLimit == null || dailyCaffeineLimit <= 0 ? null : level * 100 / dailyCaffeineLimit;
+        this.calculatedAt = calculatedAt;
+    }
+
+    public static ResponseEntity<GetCaffeineLevelResponseDto> success(double level, Integer dailyCaffeineLimit) {
+        GetCaffeineLevelResponseDto result = new GetCaffeineLevelResponseDto(level, dailyCaffeineLimit, Instant.now());
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistedUser(){
+        ResponseDto result = new ResponseDto(404, ResponseStatus.NOT_EXISTED_USER, ResponseMessage.NOT_EXISTED_USER);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
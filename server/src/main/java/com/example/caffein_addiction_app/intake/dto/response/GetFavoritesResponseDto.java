@@ -0,0 +1,32 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.intake.service.QuickAddFavorites;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetFavoritesResponseDto extends ResponseDto {
+
+    //자주 마신 순
+    private List<FavoriteDrinkDto> frequent;
+
+    //최근 마신 순
+    private List<FavoriteDrinkDto> recent;
+
+    private GetFavoritesResponseDto(QuickAddFavorites.Favorites favorites) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.frequent = favorites.frequent().stream().map(FavoriteDrinkDto::frequent).toList();
+        this.recent = favorites.recent().stream().map(FavoriteDrinkDto::recent).toList();
+    }
+
+    public static ResponseEntity<GetFavoritesResponseDto> success(QuickAddFavorites.Favorites favorites) {
+        GetFavoritesResponseDto result = new GetFavoritesResponseDto(favorites);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
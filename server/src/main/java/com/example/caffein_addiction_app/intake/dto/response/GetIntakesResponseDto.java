@@ -0,0 +1,30 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetIntakesResponseDto extends ResponseDto {
+
+    private List<IntakeDto> intakes;
+
+    //다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    private String nextCursor;
+
+    private GetIntakesResponseDto(List<IntakeDto> intakes, String nextCursor) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.intakes = intakes;
+        this.nextCursor = nextCursor;
+    }
+
+    public static ResponseEntity<GetIntakesResponseDto> success(List<IntakeDto> intakes, String nextCursor) {
+        GetIntakesResponseDto result = new GetIntakesResponseDto(intakes, nextCursor);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class IntakeDto {
+
+    private Long id;
+    private Instant timestamp;
+    private String category;
+    private String brand;
+    private String item;
+    private String size;
+    private Integer caffeineAmount;
+    private String clientId;
+
+    public static IntakeDto from(Intake intake) {
+        return new IntakeDto(intake.getId(), intake.getConsumedAt(), intake.getCategory(), intake.getBrand(),
+                intake.getItem(), intake.getSize(), intake.getCaffeineAmount(), intake.getClientId());
+    }
+}
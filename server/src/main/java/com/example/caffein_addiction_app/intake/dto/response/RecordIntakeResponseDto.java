@@ -0,0 +1,24 @@
+package com.example.caffein_addiction_app.intake.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class RecordIntakeResponseDto extends ResponseDto {
+
+    private IntakeDto intake;
+
+    private RecordIntakeResponseDto(IntakeDto intake) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.intake = intake;
+    }
+
+    public static ResponseEntity<RecordIntakeResponseDto> success(IntakeDto intake) {
+        RecordIntakeResponseDto result = new RecordIntakeResponseDto(intake);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.caffein_addiction_app.intake.entity;
+
+import com.example.caffein_addiction_app.intake.dto.request.RecordIntakeRequestDto;
+import com.example.caffein_addiction_app.sync.dto.request.SyncChangeRequestDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "intakes", indexes = {
+        //기간 조회 + keyset pagination (user_id, consumed_at, id)
+        @Index(name = "idx_intakes_user_consumed_at", columnList = "user_id, consumed_at, id"),
+        //동기화 pull (change_seq 이후 변경분)
+        @Index(name = "idx_intakes_user_change_seq", columnList = "user_id, change_seq")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_intakes_user_client_id", columnNames = {"user_id", "client_id"})
+})
+@Getter
+@NoArgsConstructor
+public class Intake {
+
+    //write-behind batch insert를 위해 IDENTITY 대신 pooled sequence
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intakes_seq")
+    @SequenceGenerator(name = "intakes_seq", sequenceName = "intakes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "consumed_at", nullable = false)
+    private Instant consumedAt;
+
+    @Column(name = "category")
+    private String category;
+
+    @Column(name = "brand")
+    private String brand;
+
+    @Column(name = "item")
+    private String item;
+
+    @Column(name = "size")
+    private String size;
+
+    //mg
+    @Column(name = "caffeine_amount", nullable = false)
+    private Integer caffeineAmount;
+
+    //클라이언트가 정한 기록 id (오프라인에서 만든 기록도 서버와 같은 id로 동기화), 서버에서 만든 기록은 UUID
+    @Column(name = "client_id", length = 64)
+    private String clientId;
+
+    //사용자별로 단조 증가하는 변경 번호, 저장/수정될 때마다 새로 받음 (IntakeChangeLog)
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    //마지막 수정 시각 (동기화 충돌 시 더 늦은 쪽이 이김)
+    @Column(name = "modified_at")
+    private Instant modifiedAt;
+
+    public Intake(Integer userId, RecordIntakeRequestDto dto) {
+        this.userId = userId;
+        this.consumedAt = dto.getTimestamp() != null ? dto.getTimestamp() : Instant.now();
+        this.category = dto.getCategory();
+        this.brand = dto.getBrand();
+        this.item = dto.getItem();
+        this.size = dto.getSize();
+        this.caffeineAmount = dto.getCaffeineAmount();
+        this.clientId = dto.getClientId() != null && !dto.getClientId().isBlank() ? dto.getClientId() : UUID.randomUUID().toString();
+        this.modifiedAt = Instant.now();
+    }
+
+    public Intake(Integer userId, SyncChangeRequestDto dto) {
+        this.userId = userId;
+        this.clientId = dto.getClientId();
+        update(dto);
+    }
+
+    public void update(SyncChangeRequestDto dto) {
+        this.consumedAt = dto.getTimestamp();
+        this.category = dto.getCategory();
+        this.brand = dto.getBrand();
+        this.item = dto.getItem();
+        this.size = dto.getSize();
+        this.caffeineAmount = dto.getCaffeineAmount();
+        this.modifiedAt = dto.getModifiedAt();
+    }
+
+    public void assignChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    //rollback된 batch에서 받은 id/변경 번호를 버림 -> 다시 저장할 때 merge가 아닌 새 insert
+    public void resetForRetry() {
+        this.id = null;
+        this.changeSeq = null;
+    }
+
+    //수정 전 값 보관용 (영속성 context 밖의 복사본, rollup 감소 등에 사용)
+    public Intake copy() {
+        Intake copy = new Intake();
+        copy.id = id;
+        copy.userId = userId;
+        copy.consumedAt = consumedAt;
+        copy.category = category;
+        copy.brand = brand;
+        copy.item = item;
+        copy.size = size;
+        copy.caffeineAmount = caffeineAmount;
+        copy.clientId = clientId;
+        copy.changeSeq = changeSeq;
+        copy.modifiedAt = modifiedAt;
+        return copy;
+    }
+}
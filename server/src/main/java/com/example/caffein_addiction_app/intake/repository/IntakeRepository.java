@@ -0,0 +1,44 @@
+package com.example.caffein_addiction_app.intake.repository;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface IntakeRepository extends JpaRepository<Intake, Long> {
+
+    //현재 카페인 수치 초기 계산용 (감쇠로 무시할 수 있는 기간 이후만)
+    List<Intake> findByUserIdAndConsumedAtGreaterThanEqual(Integer userId, Instant since);
+
+    //[from, to) 시간순 (레벨 곡선 계산용)
+    @Query("SELECT i FROM Intake i WHERE i.userId = :userId AND i.consumedAt >= :from AND i.consumedAt < :to ORDER BY i.consumedAt")
+    List<Intake> findWindow(@Param("userId") Integer userId, @Param("from") Instant from, @Param("to") Instant to);
+
+    //최신순 첫 페이지 [from, to)
+    @Query("SELECT i FROM Intake i WHERE i.userId = :userId AND i.consumedAt >= :from AND i.consumedAt < :to " +
+            "ORDER BY i.consumedAt DESC, i.id DESC")
+    List<Intake> findPage(@Param("userId") Integer userId, @Param("from") Instant from, @Param("to") Instant to,
+                          Pageable pageable);
+
+    //keyset: 이전 페이지 마지막 (consumedAt, id) 다음부터 -> OFFSET 없이 인덱스에서 바로 이어서 읽음
+    @Query("SELECT i FROM Intake i WHERE i.userId = :userId AND i.consumedAt >= :from AND i.consumedAt < :to " +
+            "AND (i.consumedAt < :cursorAt OR (i.consumedAt = :cursorAt AND i.id < :cursorId)) " +
+            "ORDER BY i.consumedAt DESC, i.id DESC")
+    List<Intake> findPageAfter(@Param("userId") Integer userId, @Param("from") Instant from, @Param("to") Instant to,
+                               @Param("cursorAt") Instant cursorAt, @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    //동기화 push 대상 기록
+    List<Intake> findByUserIdAndClientIdIn(Integer userId, Collection<String> clientIds);
+
+    //동기화 pull: cursor 이후 저장/수정된 기록, 변경 번호순
+    @Query("SELECT i FROM Intake i WHERE i.userId = :userId AND i.changeSeq > :cursor ORDER BY i.changeSeq")
+    List<Intake> findChanges(@Param("userId") Integer userId, @Param("cursor") Long cursor, Pageable pageable);
+}
@@ -0,0 +1,222 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+//시간대별 카페인 레벨 곡선 (일정 간격 샘플)
+//구간 기록을 시간순으로 한 번만 훑으며 double[]에 채우고 float32 little-endian + base64로 인코딩
+//(사용자, 시작일, 일 수, 간격)별로 인코딩 결과 캐시, 기록이 바뀌면 그 시각 이후에 영향받는 곡선만 제거
+@Component
+@RequiredArgsConstructor
+public class CaffeineCurveCache {
+
+    public static final String ENCODING = "float32-le-base64";
+
+    //메시지 = "<userId>:<기록 시각 ms>", 기록이 바뀌었다는 알림으로 CaffeineLevelStream도 구독
+    public static final String INVALIDATION_CHANNEL = "intake:curve:invalidate";
+
+    private final IntakeRepository intakeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${statistics.time-zone:Asia/Seoul}")
+    private String timeZone;
+
+    //구간 시작 전 기록도 이 시간만큼 반영 (그 이전은 감쇠로 거의 0)
+    @Value("${caffeine-level.bootstrap-hours:48}")
+    private long lookbackHours;
+
+    @Value("${caffeine-curve.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${caffeine-curve.cache.ttl-ms:3600000}")
+    private long ttlMillis;
+
+    private final Map<Integer, UserCurves> curvesByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ZoneId zone;
+    private double decayPerMilli;
+    private long lookbackMillis;
+
+    @PostConstruct
+    void init() {
+        zone = ZoneId.of(timeZone);
+        decayPerMilli = Math.log(2) / (CaffeineLevelEngine.HALF_LIFE_HOURS * TimeUnit.HOURS.toMillis(1));
+        lookbackMillis = TimeUnit.HOURS.toMillis(lookbackHours);
+
+        listenerContainer.addMessageListener(
+                (Message message, byte[] pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+
+        FunctionCounter.builder("caffeine.curve.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("caffeine.curve.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+    }
+
+    public Curve get(Integer userId, LocalDate date, int days, int stepMinutes) {
+        CurveSpec spec = new CurveSpec(date, days, stepMinutes);
+        UserCurves userCurves = curvesByUser.computeIfAbsent(userId, id -> new UserCurves());
+
+        Curve cached = userCurves.curves.get(spec);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        //계산 중에 기록이 바뀌면 (version 증가) 결과를 캐시하지 않음
+        long version = userCurves.version.get();
+        Curve curve = compute(userId, spec);
+
+        //evict/purge와 같은 사용자 항목 lock 안에서 저장
+        //그 사이 purge로 빠진 항목이면 (다시 조회되지 않으므로) 저장하지 않음
+        if (size.get() < maxSize) {
+            curvesByUser.computeIfPresent(userId, (id, current) -> {
+                if (current == userCurves && current.version.get() == version && current.curves.putIfAbsent(spec, curve) == null) {
+                    size.incrementAndGet();
+                }
+                return current;
+            });
+        }
+
+        return curve;
+    }
+
+    //기록이 저장/삭제된 뒤 호출
+    public void invalidate(Integer userId, Instant consumedAt) {
+        long at = consumedAt.toEpochMilli();
+        evict(userId, at);
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId + ":" + at);
+        } catch (Exception e) {
+            //전달 실패 시 다른 인스턴스는 ttl 후 갱신
+            e.printStackTrace();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${caffeine-curve.cache.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long expiredBefore = System.currentTimeMillis() - ttlMillis;
+
+        for (Integer userId : curvesByUser.keySet()) {
+            curvesByUser.computeIfPresent(userId, (id, userCurves) -> {
+                removeCurves(userCurves, curve -> curve.computedAtMillis < expiredBefore);
+                return userCurves.curves.isEmpty() ? null : userCurves;
+            });
+        }
+    }
+
+    private void evict(Integer userId, long atMillis) {
+        curvesByUser.computeIfPresent(userId, (id, userCurves) -> {
+            userCurves.version.incrementAndGet();
+
+            //기록 시각 ~ lookback 뒤까지의 곡선만 영향받음
+            removeCurves(userCurves, curve -> curve.endMillis > atMillis && curve.startMillis < atMillis + lookbackMillis);
+            return userCurves;
+        });
+    }
+
+    //사용자 항목의 compute 안에서만 호출 (저장/제거가 사용자별로 순서대로 일어남) -> 실제로 제거한 개수만큼 size 감소
+    private void removeCurves(UserCurves userCurves, Predicate<Curve> condition) {
+        Iterator<Curve> curves = userCurves.curves.values().iterator();
+        while (curves.hasNext()) {
+            if (!condition.test(curves.next())) continue;
+            curves.remove();
+            size.decrementAndGet();
+        }
+    }
+
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) return;
+
+        try {
+            evict(Integer.valueOf(message.substring(0, separator)), Long.parseLong(message.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            //잘못된 메시지 무시
+        }
+    }
+
+    private Curve compute(Integer userId, CurveSpec spec) {
+        long start = spec.date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = spec.date.plusDays(spec.days).atStartOfDay(zone).toInstant().toEpochMilli();
+        long step = TimeUnit.MINUTES.toMillis(spec.stepMinutes);
+        int count = (int) ((end - start) / step);
+
+        List<Intake> intakes = intakeRepository.findWindow(userId, Instant.ofEpochMilli(start - lookbackMillis), Instant.ofEpochMilli(end));
+
+        //sample[k] = sample[k-1] * (한 간격 감쇠) + (k-1, k] 사이 기록 각각을 k 시점까지 감쇠시킨 양
+        double[] samples = new double[count];
+        double stepDecay = Math.exp(-decayPerMilli * step);
+        double level = 0;
+        int next = 0;
+
+        for (int k = 0; k < count; k++) {
+            long sampleAt = start + k * step;
+            level *= stepDecay;
+
+            while (next < intakes.size()) {
+                Intake intake = intakes.get(next);
+                long at = intake.getConsumedAt().toEpochMilli();
+                if (at > sampleAt) break;
+
+                level += intake.getCaffeineAmount() * Math.exp(-decayPerMilli * (sampleAt - at));
+                next++;
+            }
+
+            samples[k] = level;
+        }
+
+        return new Curve(start, end, spec.stepMinutes, count, encode(samples), System.currentTimeMillis());
+    }
+
+    private static String encode(double[] samples) {
+        ByteBuffer buffer = ByteBuffer.allocate(samples.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (double sample : samples) buffer.putFloat((float) sample);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    //samples: float32 little-endian 배열을 base64로 (JS: new Float32Array(Uint8Array.from(atob(s), c => c.charCodeAt(0)).buffer))
+    public record Curve(long startMillis, long endMillis, int stepMinutes, int sampleCount, String samples, long computedAtMillis) {
+    }
+
+    private record CurveSpec(LocalDate date, int days, int stepMinutes) {
+    }
+
+    private static final class UserCurves {
+        private final AtomicLong version = new AtomicLong();
+        private final Map<CurveSpec, Curve> curves = new ConcurrentHashMap<>();
+    }
+}
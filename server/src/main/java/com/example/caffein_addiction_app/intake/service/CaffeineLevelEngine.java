@@ -0,0 +1,233 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.common.DecayingAccumulatorMap;
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//사용자별 현재 체내 카페인 (mg): sum(amount * 0.5^(경과 시간 / 5.5h))
+//사용자마다 감쇠 누적값 하나 + 기준 시각만 유지 -> 기록 추가는 누적값에 더하기, 조회는 지수 계산 한 번
+//처음 조회할 때만 최근 bootstrap-hours 동안의 기록으로 계산 (그 이전 기록은 감쇠로 거의 0)
+//redis를 켜면 누적값을 redis hash에도 저장 -> 재시작/다른 인스턴스에서 DB 조회 없이 이어서 사용
+//add마다 generation을 올림 -> DB를 읽는 사이 add가 있었던 bootstrap은 설치하지 않고 다시 읽음
+@Component
+@RequiredArgsConstructor
+public class CaffeineLevelEngine {
+
+    public static final double HALF_LIFE_HOURS = 5.5;
+
+    private static final long HALF_LIFE_MILLIS = (long) (HALF_LIFE_HOURS * TimeUnit.HOURS.toMillis(1));
+    private static final String KEY_PREFIX = "caffeine:level:";
+
+    //사용자별 generation 대신 userId로 나눈 stripe (같은 stripe의 다른 사용자는 bootstrap을 한 번 더 읽을 뿐)
+    private static final int GENERATION_STRIPES = 4096;
+
+    //generation이 계속 바뀌면 이 횟수 뒤에는 설치하지 않고 읽은 값만 반환
+    private static final int MAX_BOOTSTRAP_ATTEMPTS = 3;
+
+    //KEYS[1]=hash / ARGV[1]=기록 시각(ms), ARGV[2]=양, ARGV[3]=ms당 감쇠율, ARGV[4]=만료(ms)
+    //누적값이 없어도 gen은 올림 -> 그 전에 DB를 읽기 시작한 bootstrap은 설치되지 않음
+    //없으면 nil -> 호출 쪽에서 DB로 다시 계산
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], 'gen', 1) " +
+            "local values = redis.call('HMGET', KEYS[1], 'amount', 'at') " +
+            "if not values[1] then redis.call('PEXPIRE', KEYS[1], ARGV[4]) return nil end " +
+            "local amount = tonumber(values[1]) " +
+            "local reference = tonumber(values[2]) " +
+            "local at = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[3]) " +
+            "if at >= reference then " +
+            "  amount = amount * math.exp(-rate * (at - reference)) + tonumber(ARGV[2]) " +
+            "  reference = at " +
+            "else " +
+            "  amount = amount + tonumber(ARGV[2]) * math.exp(-rate * (reference - at)) " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'amount', tostring(amount), 'at', tostring(reference)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return {tostring(amount), tostring(reference)}",
+            List.class);
+
+    //KEYS[1]=hash / ARGV[1]=양, ARGV[2]=기준 시각(ms), ARGV[3]=만료(ms), ARGV[4]=DB 읽기 전 gen
+    //gen이 바뀌었으면 nil (읽는 사이 add가 있었음) -> 호출 쪽에서 다시 읽음
+    //이미 있으면 그대로 두고 있는 값을 반환 (다른 인스턴스가 먼저 넣고 더한 값을 덮어쓰지 않도록)
+    private static final RedisScript<List> INSTALL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('HGET', KEYS[1], 'gen') or '0') ~= ARGV[4] then return nil end " +
+            "local values = redis.call('HMGET', KEYS[1], 'amount', 'at') " +
+            "if values[1] then return {values[1], values[2]} end " +
+            "redis.call('HSET', KEYS[1], 'amount', ARGV[1], 'at', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return {ARGV[1], ARGV[2]}",
+            List.class);
+
+    private final IntakeRepository intakeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${caffeine-level.bootstrap-hours:48}")
+    private long bootstrapHours;
+
+    @Value("${caffeine-level.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    //redis 사용 시 다른 인스턴스의 기록을 반영하기 위해 로컬 값을 다시 읽는 주기
+    @Value("${caffeine-level.local-ttl-ms:60000}")
+    private long localTtlMillis;
+
+    //이 값(mg) 밑으로 줄어든 사용자는 주기적으로 메모리에서 제거
+    @Value("${caffeine-level.purge-epsilon-mg:0.1}")
+    private double purgeEpsilon;
+
+    private final DecayingAccumulatorMap levels =
+            new DecayingAccumulatorMap(HALF_LIFE_MILLIS, 64, 1024);
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("caffeine.level.users", levels, DecayingAccumulatorMap::size).register(meterRegistry);
+    }
+
+    //현재 체내 카페인 (mg)
+    public double currentLevel(Integer userId) {
+        long now = System.currentTimeMillis();
+        long freshAfter = redisEnabled ? now - localTtlMillis : Long.MIN_VALUE;
+
+        //삭제(음수 더하기) 후 부동소수점 오차로 0 밑으로 내려가지 않게
+        double level = levels.valueAt(userId, now, freshAfter);
+        if (!Double.isNaN(level)) return Math.max(0, level);
+
+        return reload(userId, now);
+    }
+
+    //다른 인스턴스에서 기록이 바뀐 경우 로컬 누적값을 무시하고 redis(사용 시) 또는 DB에서 다시 읽음
+    //redis가 없으면 DB로 다시 계산한 값으로 로컬 값을 덮어씀
+    public double refresh(Integer userId) {
+        return reload(userId, System.currentTimeMillis());
+    }
+
+    //DB에 저장/삭제된 뒤 호출, 삭제는 음수 양 (누적값이 없어서 DB로 다시 계산하면 이미 반영된 상태)
+    public void add(Integer userId, Instant consumedAt, int caffeineAmount) {
+        long now = System.currentTimeMillis();
+        //미래 시각 기록은 현재 시각으로 (감쇠 전 양이 커지는 것 방지)
+        long at = Math.min(consumedAt.toEpochMilli(), now);
+
+        //누적값에 더하기 전에 올림 -> 이미 DB를 읽고 있는 bootstrap은 이 기록이 빠졌을 수 있으므로 설치 실패
+        generations.incrementAndGet(stripeOf(userId));
+
+        if (redisEnabled) {
+            List<?> result = redisTemplate.execute(ADD_SCRIPT, List.of(KEY_PREFIX + userId),
+                    String.valueOf(at), String.valueOf(caffeineAmount),
+                    String.valueOf(Math.log(2) / HALF_LIFE_MILLIS), String.valueOf(redisTtlMillis()));
+
+            if (result != null && result.size() == 2) {
+                //lua number는 double -> 큰 값은 지수 표기로 올 수 있음
+                levels.put(userId, Double.parseDouble((String) result.get(0)), (long) Double.parseDouble((String) result.get(1)), now);
+            } else {
+                bootstrap(userId, now);
+            }
+            return;
+        }
+
+        if (!levels.add(userId, at, caffeineAmount)) bootstrap(userId, now);
+    }
+
+    @Scheduled(fixedDelayString = "${caffeine-level.purge-interval-ms:600000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        long staleBefore = redisEnabled ? now - localTtlMillis : Long.MIN_VALUE;
+        levels.purge(now, purgeEpsilon, staleBefore);
+    }
+
+    private double reload(Integer userId, long now) {
+        if (redisEnabled) {
+            List<Object> stored = redisTemplate.opsForHash().multiGet(KEY_PREFIX + userId, List.of("amount", "at"));
+            if (stored.get(0) != null && stored.get(1) != null) {
+                double amount = Double.parseDouble((String) stored.get(0));
+                long at = (long) Double.parseDouble((String) stored.get(1));
+                levels.put(userId, amount, at, now);
+                return Math.max(0, amount * levels.decay(now - at));
+            }
+        }
+
+        return Math.max(0, bootstrap(userId, now));
+    }
+
+    //DB로 다시 계산해서 설치 (있던 값은 덮어씀)
+    //읽기 전에 받은 generation이 그대로일 때만 설치 -> 아니면 다시 읽음
+    private double bootstrap(Integer userId, long now) {
+        double amount = 0;
+
+        for (int attempt = 0; attempt < MAX_BOOTSTRAP_ATTEMPTS; attempt++) {
+            long generation = generations.get(stripeOf(userId));
+            String redisGeneration = redisEnabled ? redisGeneration(userId) : null;
+
+            amount = loadFromDb(userId, now);
+
+            double installed = install(userId, amount, now, generation, redisGeneration);
+            if (!Double.isNaN(installed)) return installed;
+        }
+
+        return amount;
+    }
+
+    //설치한 값 (redis에 이미 있었으면 그 값), generation이 바뀌었으면 NaN
+    private double install(Integer userId, double amount, long now, long generation, String redisGeneration) {
+        double installedAmount = amount;
+        long installedAt = now;
+
+        if (redisEnabled) {
+            List<?> installed = redisTemplate.execute(INSTALL_SCRIPT, List.of(KEY_PREFIX + userId),
+                    String.valueOf(amount), String.valueOf(now), String.valueOf(redisTtlMillis()), redisGeneration);
+            if (installed == null || installed.size() != 2) return Double.NaN;
+
+            installedAmount = Double.parseDouble((String) installed.get(0));
+            installedAt = (long) Double.parseDouble((String) installed.get(1));
+        }
+
+        //redis 사용 시 로컬 설치 실패는 무시 (그 사이 add가 redis 결과로 로컬 값을 이미 갱신함)
+        int stripe = stripeOf(userId);
+        boolean local = levels.putIf(userId, installedAmount, installedAt, now, () -> generations.get(stripe) == generation);
+        if (!local && !redisEnabled) return Double.NaN;
+
+        return installedAmount * levels.decay(now - installedAt);
+    }
+
+    private double loadFromDb(Integer userId, long now) {
+        Instant since = Instant.ofEpochMilli(now - TimeUnit.HOURS.toMillis(bootstrapHours));
+
+        double amount = 0;
+        for (Intake intake : intakeRepository.findByUserIdAndConsumedAtGreaterThanEqual(userId, since)) {
+            long at = Math.min(intake.getConsumedAt().toEpochMilli(), now);
+            amount += intake.getCaffeineAmount() * levels.decay(now - at);
+        }
+        return amount;
+    }
+
+    //hash가 없으면 "0" (INSTALL_SCRIPT와 같은 기본값)
+    private String redisGeneration(Integer userId) {
+        Object generation = redisTemplate.opsForHash().get(KEY_PREFIX + userId, "gen");
+        return generation == null ? "0" : (String) generation;
+    }
+
+    private static int stripeOf(Integer userId) {
+        return Math.floorMod(userId, GENERATION_STRIPES);
+    }
+
+    //bootstrap 기간이 지나면 값이 거의 0 -> 그 뒤로는 DB로 다시 계산해도 같음
+    private long redisTtlMillis() {
+        return TimeUnit.HOURS.toMillis(bootstrapHours);
+    }
+}
@@ -0,0 +1,347 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.common.HierarchicalTimingWheel;
+import com.example.caffein_addiction_app.intake.dto.response.CaffeineLevelEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//체내 카페인 SSE push
+//이벤트는 의미 있는 변화가 있을 때만: 기록 추가/삭제(level), 제한량 대비 구간 변화(alert: normal <-> approaching <-> over)
+//기록이 없으면 level은 감소만 하므로 다음 구간 경계를 지나는 시각을 계산해 timing wheel에 사용자당 하나만 예약 (다시 계산하면 교체)
+//사용자별 작업(계산 + 전송)은 userId로 고른 단일 스레드 stripe에서 실행 -> 같은 사용자 이벤트 순서 보장, 느린 클라이언트가 스케줄러를 막지 않음
+//연결 유지는 tomcat NIO 비동기 요청이라 스레드를 점유하지 않음
+@Component
+@RequiredArgsConstructor
+public class CaffeineLevelStream {
+
+    public static final String LEVEL_EVENT = "level";
+    public static final String ALERT_EVENT = "alert";
+
+    //부동소수점 오차와 wheel tick 단위 만료로 경계 직전에 깨어나 다시 예약되는 것 방지
+    private static final long CROSSING_MARGIN_MILLIS = 1000;
+    //tick 1초 x 64^3 -> 약 3일까지 칸에 바로 배치 (더 먼 경계는 내려오면서 다시 계산)
+    private static final long CROSSING_TICK_MILLIS = 1000;
+    private static final int CROSSING_WHEEL_LEVELS = 3;
+    private static final long HALF_LIFE_MILLIS = (long) (CaffeineLevelEngine.HALF_LIFE_HOURS * TimeUnit.HOURS.toMillis(1));
+
+    private enum Band {
+        NORMAL, APPROACHING, OVER;
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final CaffeineLevelEngine caffeineLevelEngine;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    //넘으면 연결 종료 (클라이언트는 재연결 후 현재 값을 다시 받음)
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    //SSE 연결도 tomcat connection을 하나씩 차지 -> server.tomcat.max-connections(20000)보다 작게, 일반 요청 몫을 남겨둠
+    @Value("${sse.max-streams:15000}")
+    private int maxStreams;
+
+    @Value("${sse.max-streams-per-user:5}")
+    private int maxStreamsPerUser;
+
+    //dailyCaffeineLimit의 이 비율 이상이면 approaching
+    @Value("${sse.approaching-ratio:0.8}")
+    private double approachingRatio;
+
+    @Value("${sse.worker-stripes:4}")
+    private int workerStripes;
+
+    @Value("${sse.worker-queue-capacity:10000}")
+    private int workerQueueCapacity;
+
+    private final Map<Integer, UserStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger streamCount = new AtomicInteger();
+
+    //userId -> 다음 구간 경계 시각
+    private HierarchicalTimingWheel crossings;
+    private ThreadPoolExecutor[] workers;
+    private Thread scheduler;
+    private volatile boolean running;
+
+    private Counter events;
+    private Counter rejected;
+    private Counter dropped;
+
+    @PostConstruct
+    void init() {
+        crossings = new HierarchicalTimingWheel(CROSSING_TICK_MILLIS, CROSSING_WHEEL_LEVELS, System.currentTimeMillis());
+        workers = new ThreadPoolExecutor[workerStripes];
+        for (int i = 0; i < workerStripes; i++) {
+            String name = "sse-worker-" + i;
+            workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(workerQueueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+
+        //기록 저장/삭제 알림 (이 인스턴스에서 바뀐 것도 같은 경로로 받음)
+        listenerContainer.addMessageListener(
+                (Message message, byte[] pattern) -> onIntakeChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CaffeineCurveCache.INVALIDATION_CHANNEL));
+
+        events = Counter.builder("sse.level.events").register(meterRegistry);
+        rejected = Counter.builder("sse.level.rejected").register(meterRegistry);
+        dropped = Counter.builder("sse.level.dropped").register(meterRegistry);
+        Gauge.builder("sse.level.streams", streamCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("sse.level.scheduled", crossings, HierarchicalTimingWheel::size).register(meterRegistry);
+
+        running = true;
+        scheduler = new Thread(this::schedulerLoop, "sse-level-scheduler");
+        scheduler.setDaemon(true);
+        scheduler.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        scheduler.interrupt();
+        for (ThreadPoolExecutor worker : workers) worker.shutdownNow();
+        for (UserStream stream : streams.values()) stream.emitters.forEach(SseEmitter::complete);
+    }
+
+    //연결 수 한도 초과 시 RejectedExecutionException
+    public SseEmitter open(Integer userId, Integer dailyCaffeineLimit) {
+        if (streamCount.incrementAndGet() > maxStreams) {
+            streamCount.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("too many level streams");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        UserStream stream = streams.compute(userId, (id, existing) -> {
+            UserStream current = existing != null ? existing : new UserStream(userId);
+            if (current.emitters.size() < maxStreamsPerUser) current.emitters.add(emitter);
+            return current;
+        });
+
+        if (!stream.emitters.contains(emitter)) {
+            streamCount.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("too many level streams for user " + userId);
+        }
+
+        Runnable remove = () -> remove(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        //첫 이벤트로 현재 값 전송
+        submit(userId, () -> {
+            stream.dailyCaffeineLimit = dailyCaffeineLimit;
+            refresh(stream, false, emitter);
+        });
+        return emitter;
+    }
+
+    //연결이 끊긴 클라이언트 정리 (전송이 실패해야 알 수 있음) + 프록시 idle timeout 방지
+    //stripe마다 작업 하나로 자기 사용자들만 (큐가 가득 찼으면 이번 주기는 건너뜀)
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        for (int i = 0; i < workers.length; i++) {
+            int stripe = i;
+            try {
+                workers[stripe].execute(() -> {
+                    for (UserStream stream : streams.values()) {
+                        if (stripeOf(stream.userId) != stripe) continue;
+                        for (SseEmitter emitter : stream.emitters) {
+                            try {
+                                emitter.send(SseEmitter.event().comment("ping"));
+                            } catch (Exception e) {
+                                emitter.completeWithError(e);
+                            }
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void remove(Integer userId, SseEmitter emitter) {
+        streams.computeIfPresent(userId, (id, stream) -> {
+            if (stream.emitters.remove(emitter)) streamCount.decrementAndGet();
+            if (!stream.emitters.isEmpty()) return stream;
+
+            //마지막 연결이면 예약된 경계도 함께 제거 (같은 사용자의 open과 순서가 섞이지 않도록 compute 안에서)
+            crossings.cancel(userId);
+            return null;
+        });
+    }
+
+    private void onIntakeChanged(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) return;
+
+        Integer userId;
+        try {
+            userId = Integer.valueOf(message.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        UserStream stream = streams.get(userId);
+        if (stream == null) return;
+
+        //다른 인스턴스에서 바뀌었을 수 있으므로 누적값을 다시 읽음
+        submit(userId, () -> {
+            caffeineLevelEngine.refresh(userId);
+            refresh(stream, false, null);
+        });
+    }
+
+    private void schedulerLoop() {
+        while (running) {
+            try {
+                Thread.sleep(CROSSING_TICK_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            crossings.advance(System.currentTimeMillis(), this::onCrossing);
+        }
+    }
+
+    //scheduler 스레드, 처리는 사용자 stripe에서
+    private void onCrossing(int userId, long dueMillis) {
+        UserStream stream = streams.get(userId);
+        if (stream == null || stream.crossingDueMillis != dueMillis) return;
+
+        submit(userId, () -> {
+            //그 사이 다시 계산되어 교체된 예약이면 무시
+            if (stream.crossingDueMillis == dueMillis) refresh(stream, true, null);
+        });
+    }
+
+    //stripe 스레드에서만 호출
+    //onlyOnBandChange: 경계 예약으로 깨어난 경우 구간이 바뀌었을 때만 전송
+    //target: 새 연결 하나에만 보낼 때
+    private void refresh(UserStream stream, boolean onlyOnBandChange, SseEmitter target) {
+        long now = System.currentTimeMillis();
+        double level = caffeineLevelEngine.currentLevel(stream.userId);
+        Integer limit = stream.dailyCaffeineLimit;
+        Band band = bandOf(level, limit);
+
+        boolean bandChanged = stream.band != null && stream.band != band;
+        stream.band = band;
+
+        CaffeineLevelEventDto event = new CaffeineLevelEventDto(level, now, CaffeineLevelEngine.HALF_LIFE_HOURS, limit,
+                limit == null || limit <= 0 ? null : level * 100 / limit, band.tag());
+
+        if (target != null) {
+            send(stream, target, LEVEL_EVENT, event);
+        } else {
+            if (!onlyOnBandChange) broadcast(stream, LEVEL_EVENT, event);
+            if (bandChanged) broadcast(stream, ALERT_EVENT, event);
+        }
+
+        schedule(stream, level, limit, band, now);
+    }
+
+    //기록이 없으면 level(t) = level * 0.5^((t - now) / halfLife) -> 현재 구간 아래 경계에 닿는 시각
+    //같은 사용자의 이전 예약은 교체 (refresh마다 쌓이지 않음)
+    private void schedule(UserStream stream, double level, Integer limit, Band band, long now) {
+        if (band == Band.NORMAL) {
+            stream.crossingDueMillis = 0;
+            crossings.cancel(stream.userId);
+            return;
+        }
+
+        double threshold = band == Band.OVER ? limit : limit * approachingRatio;
+        long delay = (long) (HALF_LIFE_MILLIS * Math.log(level / threshold) / Math.log(2)) + CROSSING_MARGIN_MILLIS;
+        stream.crossingDueMillis = now + delay;
+        crossings.schedule(stream.userId, now + delay);
+    }
+
+    private Band bandOf(double level, Integer limit) {
+        if (limit == null || limit <= 0) return Band.NORMAL;
+        if (level >= limit) return Band.OVER;
+        if (level >= limit * approachingRatio) return Band.APPROACHING;
+        return Band.NORMAL;
+    }
+
+    private void broadcast(UserStream stream, String name, CaffeineLevelEventDto event) {
+        for (SseEmitter emitter : stream.emitters) send(stream, emitter, name, event);
+    }
+
+    private void send(UserStream stream, SseEmitter emitter, String name, CaffeineLevelEventDto event) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(event, MediaType.APPLICATION_JSON));
+            events.increment();
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    //stripe 큐가 가득 차면 해당 사용자 연결을 닫음 (재연결 시 현재 값을 다시 받으므로 이벤트 유실 대신 재동기화)
+    private void submit(Integer userId, Runnable task) {
+        try {
+            workers[stripeOf(userId)].execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            UserStream stream = streams.get(userId);
+            if (stream != null) stream.emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    private int stripeOf(Integer userId) {
+        return Math.floorMod(userId, workers.length);
+    }
+
+    private static final class UserStream {
+
+        private final Integer userId;
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+
+        //아래는 stripe 스레드에서만 변경
+        private volatile Integer dailyCaffeineLimit;
+        private volatile Band band;
+        //예약된 다음 구간 경계 시각 (없으면 0)
+        private volatile long crossingDueMillis;
+
+        private UserStream(Integer userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.challenge.service.ChallengeScoreUpdater;
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+//기록 저장/삭제 commit 후 메모리/redis에 있는 파생 값 반영: 체내 누적값, 곡선 캐시(+ 다른 인스턴스 알림), 챌린지 점수, 자주 쓰는 항목
+//실패해도 DB는 이미 반영됨 -> 예외는 여기서 삼킴 (누적값은 다음 bootstrap, 점수는 다음 재계산 때 맞춰짐)
+@Component
+@RequiredArgsConstructor
+public class IntakeDerivedStateUpdater {
+
+    private final CaffeineLevelEngine caffeineLevelEngine;
+    private final CaffeineCurveCache caffeineCurveCache;
+    private final ChallengeScoreUpdater challengeScoreUpdater;
+    private final QuickAddFavorites quickAddFavorites;
+
+    //sign: 저장 1, 삭제 -1
+    public void apply(Intake intake, int sign) {
+        Integer userId = intake.getUserId();
+
+        try {
+            caffeineLevelEngine.add(userId, intake.getConsumedAt(), sign * intake.getCaffeineAmount());
+            caffeineCurveCache.invalidate(userId, intake.getConsumedAt());
+            challengeScoreUpdater.markDirty(userId);
+            quickAddFavorites.record(intake, sign);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+//사용자 전체 섭취 기록 내보내기 (NDJSON / CSV, 선택적으로 gzip)
+//List로 모으지 않고 DB cursor에서 한 행씩 읽어 바로 응답 stream에 씀 -> 기록 양과 상관없이 메모리 일정
+//엔티티 대신 컬럼 값만 조회해서 persistence context에도 쌓이지 않음
+//MySQL 드라이버는 기본적으로 결과 전체를 메모리에 받아두므로 fetch 방식을 직접 지정 (fetchSize() 참고)
+@Component
+@RequiredArgsConstructor
+public class IntakeExporter {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv; charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        //없는 형식이면 null
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) return format;
+            }
+            return null;
+        }
+    }
+
+    private static final String QUERY =
+            "SELECT i.id, i.consumedAt, i.category, i.brand, i.item, i.size, i.caffeineAmount FROM Intake i " +
+            "WHERE i.userId = :userId ORDER BY i.consumedAt, i.id";
+
+    private static final String CSV_HEADER = "id,timestamp,category,brand,item,size,caffeineAmount\n";
+
+    //Excel에서 한글이 깨지지 않도록
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    //0이면 한 행씩 streaming, 양수면 그 행 수씩 server-side cursor로 (url에 useCursorFetch=true 필요)
+    @Value("${export.fetch-size:0}")
+    private int fetchSize;
+
+    //내보내기 하나가 끝날 때까지 DB connection 하나를 잡고 있으므로 동시 실행 수 제한
+    @Value("${export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Map<Integer, AtomicBoolean> runningByUser = new ConcurrentHashMap<>();
+
+    private TransactionTemplate readOnlyTransaction;
+    private Semaphore permits;
+    private Counter rows;
+    private Counter rejected;
+    private Counter cancelled;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        permits = new Semaphore(maxConcurrent);
+
+        rows = Counter.builder("intake.export.rows").register(meterRegistry);
+        rejected = Counter.builder("intake.export.rejected").register(meterRegistry);
+        cancelled = Counter.builder("intake.export.cancelled").register(meterRegistry);
+        Gauge.builder("intake.export.active", runningByUser, Map::size).register(meterRegistry);
+    }
+
+    //사용자당 하나, 전체 max-concurrent개까지 -> 초과 시 RejectedExecutionException
+    //실제 조회/쓰기는 반환한 body를 MVC가 비동기로 실행할 때 시작
+    public StreamingResponseBody open(Integer userId, Format format, boolean gzip) {
+        AtomicBoolean cancel = new AtomicBoolean();
+
+        if (runningByUser.putIfAbsent(userId, cancel) != null) {
+            rejected.increment();
+            throw new RejectedExecutionException("export already running for user " + userId);
+        }
+        if (!permits.tryAcquire()) {
+            runningByUser.remove(userId, cancel);
+            rejected.increment();
+            throw new RejectedExecutionException("too many concurrent exports");
+        }
+
+        return output -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try {
+                        write(userId, format, gzip, output, cancel);
+                    } catch (IOException e) {
+                        //클라이언트 연결 끊김 포함
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                runningByUser.remove(userId, cancel);
+                permits.release();
+            }
+        };
+    }
+
+    //진행 중인 내보내기가 있으면 다음 행에서 중단 -> 응답이 비정상 종료되어 클라이언트는 잘린 파일임을 알 수 있음
+    public boolean cancel(Integer userId) {
+        AtomicBoolean cancel = runningByUser.get(userId);
+        if (cancel == null) return false;
+
+        cancel.set(true);
+        return true;
+    }
+
+    private void write(Integer userId, Format format, boolean gzip, OutputStream output, AtomicBoolean cancel) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? compressed : output, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        JsonGenerator generator = null;
+        if (format == Format.NDJSON) {
+            generator = jsonFactory.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        } else {
+            writer.write(UTF8_BOM);
+            writer.write(CSV_HEADER);
+        }
+
+        long written = 0;
+        try (Stream<Object[]> stream = entityManager.createQuery(QUERY, Object[].class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+
+            Iterator<Object[]> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                if (cancel.get()) {
+                    cancelled.increment();
+                    throw new CancellationException("export cancelled for user " + userId);
+                }
+
+                Object[] row = iterator.next();
+                if (generator != null) writeJson(generator, row);
+                else writeCsv(writer, row);
+                written++;
+            }
+        } finally {
+            rows.increment(written);
+        }
+
+        if (generator != null) generator.flush();
+        writer.flush();
+        if (compressed != null) compressed.finish();
+    }
+
+    //getResultStream은 forward-only + read-only 결과 -> MySQL 드라이버에 Integer.MIN_VALUE를 주면 url 설정과 상관없이 streaming
+    //streaming 중에는 같은 connection으로 다른 쿼리를 보낼 수 없음 (이 트랜잭션은 이 조회만 함)
+    private int fetchSize() {
+        return fetchSize > 0 ? fetchSize : Integer.MIN_VALUE;
+    }
+
+    private static void writeJson(JsonGenerator generator, Object[] row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", (Long) row[0]);
+        generator.writeStringField("timestamp", row[1].toString());
+        writeNullable(generator, "category", row[2]);
+        writeNullable(generator, "brand", row[3]);
+        writeNullable(generator, "item", row[4]);
+        writeNullable(generator, "size", row[5]);
+        generator.writeNumberField("caffeineAmount", (Integer) row[6]);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeNullable(JsonGenerator generator, String field, Object value) throws IOException {
+        if (value == null) generator.writeNullField(field);
+        else generator.writeStringField(field, (String) value);
+    }
+
+    private static void writeCsv(Writer writer, Object[] row) throws IOException {
+        writer.write(row[0].toString());
+        writer.write(',');
+        writer.write(((Instant) row[1]).toString());
+        for (int i = 2; i <= 5; i++) {
+            writer.write(',');
+            writeCsvText(writer, (String) row[i]);
+        }
+        writer.write(',');
+        writer.write(row[6].toString());
+        writer.write('\n');
+    }
+
+    //RFC 4180 quoting, 사용자가 입력한 값이 수식으로 실행되지 않도록 =, +, -, @로 시작하면 ' 붙임
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') value = "'" + value;
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.intake.dto.request.RecordIntakeRequestDto;
+import com.example.caffein_addiction_app.intake.dto.response.CancelExportResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.DeleteIntakeResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetCaffeineCurveResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetCaffeineLevelResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetFavoritesResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetIntakesResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.RecordIntakeResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public interface IntakeService {
+
+    ResponseEntity<? super RecordIntakeResponseDto> recordIntake(Integer userId, RecordIntakeRequestDto dto);
+    ResponseEntity<? super DeleteIntakeResponseDto> deleteIntake(Integer userId, Long intakeId);
+    ResponseEntity<? super GetIntakesResponseDto> getIntakes(Integer userId, Instant from, Instant to, String cursor, int size);
+    ResponseEntity<? super GetCaffeineLevelResponseDto> getCaffeineLevel(Integer userId);
+    ResponseEntity<? super GetCaffeineCurveResponseDto> getCaffeineCurve(Integer userId, LocalDate date, int days, int stepMinutes);
+    ResponseEntity<SseEmitter> streamCaffeineLevel(Integer userId);
+    ResponseEntity<StreamingResponseBody> exportIntakes(Integer userId, String format, boolean gzip);
+    ResponseEntity<? super CancelExportResponseDto> cancelExport(Integer userId);
+    ResponseEntity<? super GetFavoritesResponseDto> getFavorites(Integer userId, int limit);
+    ResponseEntity<? super GetFavoritesResponseDto> rebuildFavorites(Integer userId);
+}
@@ -0,0 +1,323 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.auth.dto.response.UserProfileDto;
+import com.example.caffein_addiction_app.auth.repository.UserRepository;
+import com.example.caffein_addiction_app.auth.service.UserProfileCache;
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.intake.dto.request.RecordIntakeRequestDto;
+import com.example.caffein_addiction_app.intake.dto.response.CancelExportResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.DeleteIntakeResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetCaffeineCurveResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetCaffeineLevelResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetFavoritesResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.GetIntakesResponseDto;
+import com.example.caffein_addiction_app.intake.dto.response.IntakeDto;
+import com.example.caffein_addiction_app.intake.dto.response.RecordIntakeResponseDto;
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import com.example.caffein_addiction_app.sync.service.IntakeChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+@RequiredArgsConstructor
+public class IntakeServiceImpl implements IntakeService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_CURVE_DAYS = 7;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final Instant MAX_TIMESTAMP = Instant.parse("9999-12-31T00:00:00Z");
+
+    //export 응답 body 타입이 StreamingResponseBody로 고정이라 거절 응답도 미리 직렬화한 byte[]를 그대로 씀
+    private static final byte[] VALIDATION_FAILED_BODY =
+            PreEncodedResponse.encode(400, ResponseStatus.VALIDATION_FAILED, ResponseMessage.VALIDATION_FAILED);
+    private static final byte[] SERVER_BUSY_BODY =
+            PreEncodedResponse.encode(503, ResponseStatus.SERVER_BUSY, ResponseMessage.SERVER_BUSY);
+
+    private final IntakeRepository intakeRepository;
+    private final IntakeWriteBehindQueue writeBehindQueue;
+    private final CaffeineLevelEngine caffeineLevelEngine;
+    private final CaffeineCurveCache caffeineCurveCache;
+    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final DailyRollupWriter rollupWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final IntakeExporter intakeExporter;
+    private final IntakeChangeLog changeLog;
+    private final CaffeineLevelStream caffeineLevelStream;
+    private final QuickAddFavorites quickAddFavorites;
+    private final IntakeDerivedStateUpdater derivedStateUpdater;
+
+    @Override
+    public ResponseEntity<? super RecordIntakeResponseDto> recordIntake(Integer userId, RecordIntakeRequestDto dto) {
+
+        IntakeWriteBehindQueue.Saved saved;
+
+        try {
+            saved = writeBehindQueue.save(new Intake(userId, dto));
+        } catch (RejectedExecutionException e) {
+            return RecordIntakeResponseDto.serverBusy();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return RecordIntakeResponseDto.databaseError();
+        }
+
+        //같은 clientId로 이미 저장된 기록 (재시도) -> 반영은 처음 요청, 또는 처음 요청이 timeout이었으면 flusher가 함
+        Intake intake = saved.intake();
+        if (saved.created()) derivedStateUpdater.apply(intake, 1);
+
+        return RecordIntakeResponseDto.success(IntakeDto.from(intake));
+    }
+
+    @Override
+    public ResponseEntity<? super DeleteIntakeResponseDto> deleteIntake(Integer userId, Long intakeId) {
+
+        Intake intake;
+
+        //기록 삭제, 삭제 표시(동기화용), 일별 rollup 감소를 같은 트랜잭션으로
+        try {
+            intake = transactionTemplate.execute(status -> {
+                //변경 번호 lock을 먼저 잡음 (기록이 없으면 번호 하나는 그냥 건너뜀)
+                long changeSeq = changeLog.reserve(userId, 1);
+
+                Intake found = intakeRepository.findById(intakeId).orElse(null);
+                if (found == null || !found.getUserId().equals(userId)) return null;
+
+                intakeRepository.delete(found);
+                if (found.getClientId() != null) {
+                    changeLog.recordDeletes(userId, List.of(new IntakeChangeLog.Tombstone(found.getClientId(), changeSeq, Instant.now())));
+                }
+                rollupWriter.apply(List.of(found), -1);
+                return found;
+            });
+        } catch (Exception e) {
+            e.printStackTrace();
+            return DeleteIntakeResponseDto.databaseError();
+        }
+
+        //다른 사용자 기록도 존재 여부를 드러내지 않도록 같은 404
+        if (intake == null) return DeleteIntakeResponseDto.notExistedIntake();
+
+        derivedStateUpdater.apply(intake, -1);
+
+        return DeleteIntakeResponseDto.success();
+    }
+
+    @Override
+    public ResponseEntity<? super GetIntakesResponseDto> getIntakes(Integer userId, Instant from, Instant to, String cursor, int size) {
+
+        if (from == null) from = Instant.EPOCH;
+        if (to == null) to = MAX_TIMESTAMP;
+        if (size < 1 || size > MAX_PAGE_SIZE || !from.isBefore(to)) return GetIntakesResponseDto.validationFailed();
+
+        Cursor after = null;
+        if (cursor != null) {
+            after = Cursor.decode(cursor);
+            if (after == null) return GetIntakesResponseDto.validationFailed();
+        }
+
+        List<Intake> rows;
+
+        try {
+            //다음 페이지 존재 여부 확인용으로 1개 더 조회
+            PageRequest limit = PageRequest.of(0, size + 1);
+            rows = after == null
+                    ? intakeRepository.findPage(userId, from, to, limit)
+                    : intakeRepository.findPageAfter(userId, from, to, after.consumedAt, after.id, limit);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return GetIntakesResponseDto.databaseError();
+        }
+
+        boolean hasNext = rows.size() > size;
+        int count = Math.min(rows.size(), size);
+
+        List<IntakeDto> intakes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) intakes.add(IntakeDto.from(rows.get(i)));
+
+        String nextCursor = hasNext ? Cursor.encode(rows.get(count - 1)) : null;
+
+        return GetIntakesResponseDto.success(intakes, nextCursor);
+    }
+
+    @Override
+    public ResponseEntity<? super GetCaffeineLevelResponseDto> getCaffeineLevel(Integer userId) {
+
+        double level;
+        UserProfileDto profile;
+
+        try {
+            profile = userProfileCache.getOrLoad(userId, userRepository::findById);
+            if (profile == null) return GetCaffeineLevelResponseDto.notExistedUser();
+
+            level = caffeineLevelEngine.currentLevel(userId);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return GetCaffeineLevelResponseDto.databaseError();
+        }
+
+        return GetCaffeineLevelResponseDto.success(level, profile.getDailyCaffeineLimit());
+    }
+
+    @Override
+    public ResponseEntity<? super GetCaffeineCurveResponseDto> getCaffeineCurve(Integer userId, LocalDate date, int days, int stepMinutes) {
+
+        //샘플이 하루 경계에 딱 맞도록 간격은 하루(분)의 약수만 허용
+        if (date == null || days < 1 || days > MAX_CURVE_DAYS) return GetCaffeineCurveResponseDto.validationFailed();
+        if (stepMinutes < 1 || stepMinutes > 60 || MINUTES_PER_DAY % stepMinutes != 0) return GetCaffeineCurveResponseDto.validationFailed();
+
+        CaffeineCurveCache.Curve curve;
+
+        try {
+            curve = caffeineCurveCache.get(userId, date, days, stepMinutes);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return GetCaffeineCurveResponseDto.databaseError();
+        }
+
+        return GetCaffeineCurveResponseDto.success(curve);
+    }
+
+    @Override
+    public ResponseEntity<SseEmitter> streamCaffeineLevel(Integer userId) {
+
+        UserProfileDto profile;
+
+        try {
+            profile = userProfileCache.getOrLoad(userId, userRepository::findById);
+            if (profile == null) return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+
+        SseEmitter emitter;
+
+        try {
+            emitter = caffeineLevelStream.open(userId, profile.getDailyCaffeineLimit());
+        } catch (RejectedExecutionException e) {
+            //event-stream 응답이라 body 없이 상태 코드만
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+
+        //프록시(nginx 등)가 이벤트를 모아두지 않도록
+        return ResponseEntity.status(HttpStatus.OK)
+                .header("X-Accel-Buffering", "no")
+                .cacheControl(CacheControl.noStore())
+                .body(emitter);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportIntakes(Integer userId, String format, boolean gzip) {
+
+        IntakeExporter.Format exportFormat = IntakeExporter.Format.of(format);
+        if (exportFormat == null) return preEncoded(HttpStatus.BAD_REQUEST, VALIDATION_FAILED_BODY);
+
+        StreamingResponseBody body;
+
+        try {
+            body = intakeExporter.open(userId, exportFormat, gzip);
+        } catch (RejectedExecutionException e) {
+            return preEncoded(HttpStatus.SERVICE_UNAVAILABLE, SERVER_BUSY_BODY);
+        }
+
+        String fileName = "intakes." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<? super CancelExportResponseDto> cancelExport(Integer userId) {
+
+        boolean cancelled = intakeExporter.cancel(userId);
+
+        return CancelExportResponseDto.success(cancelled);
+    }
+
+    @Override
+    public ResponseEntity<? super GetFavoritesResponseDto> getFavorites(Integer userId, int limit) {
+
+        if (limit < 1 || limit > quickAddFavorites.getMaxResults()) return GetFavoritesResponseDto.validationFailed();
+
+        QuickAddFavorites.Favorites favorites;
+
+        try {
+            favorites = quickAddFavorites.get(userId, limit);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return GetFavoritesResponseDto.databaseError();
+        }
+
+        return GetFavoritesResponseDto.success(favorites);
+    }
+
+    @Override
+    public ResponseEntity<? super GetFavoritesResponseDto> rebuildFavorites(Integer userId) {
+
+        QuickAddFavorites.Favorites favorites;
+
+        try {
+            quickAddFavorites.rebuild(userId);
+            favorites = quickAddFavorites.get(userId, quickAddFavorites.getMaxResults());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return GetFavoritesResponseDto.databaseError();
+        }
+
+        return GetFavoritesResponseDto.success(favorites);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> preEncoded(HttpStatus status, byte[] body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(output -> output.write(body));
+    }
+
+    //"<epochSecond>.<nano>.<id>"를 base64url로 감싼 값 (클라이언트는 그대로 돌려주기만 함)
+    private record Cursor(Instant consumedAt, Long id) {
+
+        private static String encode(Intake last) {
+            Instant at = last.getConsumedAt();
+            String raw = at.getEpochSecond() + "." + at.getNano() + "." + last.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\.");
+                if (parts.length != 3) return null;
+
+                Instant at = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+                return new Cursor(at, Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
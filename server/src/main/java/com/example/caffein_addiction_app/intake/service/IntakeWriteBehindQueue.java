@@ -0,0 +1,197 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import com.example.caffein_addiction_app.sync.service.IntakeChangeLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+//섭취 기록 insert를 모아서 한 트랜잭션 + JDBC batch로 저장 (group commit)
+//요청 스레드는 자기 기록이 포함된 batch가 commit될 때까지 기다림 -> 응답을 받으면 저장이 끝난 것
+//한가할 때는 batch 크기 1로 바로 저장되고, 몰릴수록 batch가 커져 insert 왕복이 줄어듦
+//(user_id, client_id)가 이미 있으면 새로 저장하지 않고 기존 기록으로 응답 -> timeout 후 같은 clientId로 재시도해도 한 번만 저장
+//commit 후 파생 값 반영은 결과를 받은 요청 스레드가 함, 요청이 먼저 timeout으로 포기했으면 flusher가 대신 함
+@Component
+@RequiredArgsConstructor
+public class IntakeWriteBehindQueue {
+
+    private final IntakeRepository intakeRepository;
+    private final DailyRollupWriter rollupWriter;
+    private final IntakeChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final IntakeDerivedStateUpdater derivedStateUpdater;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${intake.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${intake.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${intake.write-behind.ack-timeout-ms:2000}")
+    private long ackTimeoutMillis;
+
+    private BlockingQueue<PendingWrite> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Counter rejected;
+    private DistributionSummary batchSizes;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        rejected = Counter.builder("intake.write.rejected").register(meterRegistry);
+        batchSizes = DistributionSummary.builder("intake.write.batch.size").register(meterRegistry);
+        flushTimer = Timer.builder("intake.write.flush").register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "intake-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    //created가 false면 같은 clientId로 이미 저장된 기록 (재시도 요청)
+    public record Saved(Intake intake, boolean created) {
+    }
+
+    //commit 후 id가 채워진 entity 반환, created면 호출 쪽에서 파생 값 반영 (IntakeDerivedStateUpdater)
+    //큐가 가득 찼거나 ack-timeout 안에 commit되지 않으면 RejectedExecutionException
+    //(timeout의 경우 저장은 나중에 될 수 있음 -> 그때 반영은 flusher가 함, 클라이언트는 같은 clientId로 재시도)
+    public Saved save(Intake intake) {
+        PendingWrite pending = new PendingWrite(intake, new CompletableFuture<>());
+
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new RejectedExecutionException("Intake write queue is full");
+        }
+
+        try {
+            return pending.saved.get(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return abandon(pending, new RejectedExecutionException("Intake write timed out", e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandon(pending, new RejectedExecutionException("Intake write interrupted", e));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    //flusher보다 먼저 완료시켜야 포기 성공 -> 이후 commit되면 반영은 flusher가 함
+    //그 사이 flusher가 먼저 완료했으면 그 결과를 그대로 사용 (반영은 호출 쪽에서)
+    private Saved abandon(PendingWrite pending, RejectedExecutionException rejection) {
+        if (pending.saved.completeExceptionally(rejection)) throw rejection;
+
+        try {
+            return pending.saved.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+
+        //종료 시에도 큐에 남은 기록은 모두 저장
+        while (running || !queue.isEmpty()) {
+            PendingWrite first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) continue;
+
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        List<Intake> intakes = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) intakes.add(pending.intake);
+
+        try {
+            //변경 번호 발급, 기록 insert, 일별 rollup 증가를 같은 트랜잭션으로
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                changeLog.assign(intakes);
+                intakeRepository.saveAll(intakes);
+                rollupWriter.apply(intakes, 1);
+            }));
+            batchSizes.record(batch.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                completeFailed(batch.get(0), e);
+                return;
+            }
+            //잘못된 기록 하나 때문에 batch 전체가 실패하지 않도록 하나씩 다시 저장
+            for (PendingWrite pending : batch) {
+                pending.intake.resetForRetry();
+                flush(List.of(pending));
+            }
+            return;
+        }
+
+        //기다리던 요청이 이미 포기했으면 (timeout) 받아 갈 스레드가 없으므로 여기서 반영
+        for (PendingWrite pending : batch) {
+            if (!pending.saved.complete(new Saved(pending.intake, true))) derivedStateUpdater.apply(pending.intake, 1);
+        }
+    }
+
+    //같은 (user_id, client_id)가 이미 저장되어 있으면 (재시도, 같은 batch 안의 중복) 기존 기록으로 완료
+    private void completeFailed(PendingWrite pending, Exception e) {
+        Intake intake = pending.intake;
+
+        try {
+            List<Intake> existing = intakeRepository.findByUserIdAndClientIdIn(intake.getUserId(), List.of(intake.getClientId()));
+            if (!existing.isEmpty()) {
+                pending.saved.complete(new Saved(existing.get(0), false));
+                return;
+            }
+        } catch (Exception lookupFailure) {
+            e.addSuppressed(lookupFailure);
+        }
+
+        pending.saved.completeExceptionally(e);
+    }
+
+    private record PendingWrite(Intake intake, CompletableFuture<Saved> saved) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//사용자별 빠른 추가 후보 (자주 마신 음료 + 최근 음료), 기록 저장 때마다 갱신 -> 조회는 O(K)
+//자주 마신 음료: 크기 capacity로 제한한 space-saving (가득 차면 가장 작은 항목을 빼고 그 점수를 이어받음)
+//  점수는 forward decay: 기록 하나의 가중치 = 2^((consumedAt - LANDMARK) / halfLife)
+//  -> 기존 점수를 매번 줄이지 않아도 오래된 기록일수록 상대적으로 작아짐, 현재 기준 횟수 = 점수 / 2^((now - LANDMARK) / halfLife)
+//  반감기 14일이면 double 범위로 LANDMARK 이후 약 39년까지 표현
+//최근 음료: 마신 시각을 점수로 하는 sorted set, 최신 K개만 유지
+//둘 다 redis에 저장 (인스턴스 간 공유, 재시작 후 유지), 기록에서 언제든 다시 만들 수 있음
+@Component
+@RequiredArgsConstructor
+public class QuickAddFavorites {
+
+    //count: 현재 기준 감쇠된 횟수 (최근 목록은 0), lastAt: 최근 목록에서만
+    public record Favorite(String category, String brand, String item, String size, int caffeineAmount, double count, Instant lastAt) {
+    }
+
+    public record Favorites(List<Favorite> frequent, List<Favorite> recent) {
+    }
+
+    private static final String FREQUENT_PREFIX = "favorites:frequent:";
+    private static final String RECENT_PREFIX = "favorites:recent:";
+    private static final Instant LANDMARK = Instant.parse("2024-01-01T00:00:00Z");
+    private static final char SEPARATOR = '\u001F';
+
+    //KEYS[1]=frequent, KEYS[2]=recent / ARGV[1]=member, ARGV[2]=가중치, ARGV[3]=capacity, ARGV[4]=마신 시각(ms), ARGV[5]=최근 개수, ARGV[6]=만료(ms)
+    //가중치가 음수(삭제)면 점수만 빼고, 0 이하가 되면 제거 (최근 목록은 그대로 둠)
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local weight = tonumber(ARGV[2]) " +
+            "if weight < 0 then " +
+            "  if redis.call('ZSCORE', KEYS[1], ARGV[1]) then " +
+            "    local score = tonumber(redis.call('ZINCRBY', KEYS[1], weight, ARGV[1])) " +
+            "    if score <= 0 then redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+            "  end " +
+            "  return 0 " +
+            "end " +
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) or redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[3]) then " +
+            "  redis.call('ZINCRBY', KEYS[1], weight, ARGV[1]) " +
+            "else " +
+            "  local smallest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "  redis.call('ZREM', KEYS[1], smallest[1]) " +
+            "  redis.call('ZADD', KEYS[1], tonumber(smallest[2]) + weight, ARGV[1]) " +
+            "end " +
+            "local last = redis.call('ZSCORE', KEYS[2], ARGV[1]) " +
+            "if not last or tonumber(last) < tonumber(ARGV[4]) then redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1]) end " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -tonumber(ARGV[5]) - 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[6]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[6]) " +
+            "return 1",
+            Long.class);
+
+    private final IntakeRepository intakeRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${favorites.half-life-days:14}")
+    private double halfLifeDays;
+
+    //사용자당 추적하는 음료 수 (조회 최대 개수보다 넉넉하게 -> 상위 K개 정확도)
+    @Value("${favorites.capacity:32}")
+    private int capacity;
+
+    @Value("${favorites.max-results:10}")
+    private int maxResults;
+
+    //다시 만들 때 읽는 기간 (반감기 14일이면 180일 전 기록의 가중치는 1/8000 수준)
+    @Value("${favorites.rebuild-days:180}")
+    private long rebuildDays;
+
+    //기록이 없는 사용자 정리
+    @Value("${favorites.ttl-days:90}")
+    private long ttlDays;
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    //저장은 1, 삭제는 -1 (commit 후 호출)
+    public void record(Intake intake, int sign) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(FREQUENT_PREFIX + intake.getUserId(), RECENT_PREFIX + intake.getUserId()),
+                memberOf(intake), String.valueOf(sign * weightOf(intake.getConsumedAt())), String.valueOf(capacity),
+                String.valueOf(intake.getConsumedAt().toEpochMilli()), String.valueOf(maxResults),
+                String.valueOf(TimeUnit.DAYS.toMillis(ttlDays)));
+    }
+
+    //두 목록을 pipeline 한 번으로 (각각 ZREVRANGE 0..limit-1)
+    @SuppressWarnings("unchecked")
+    public Favorites get(Integer userId, int limit) {
+        String frequentKey = FREQUENT_PREFIX + userId;
+        String recentKey = RECENT_PREFIX + userId;
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zRevRangeWithScores(frequentKey, 0, limit - 1);
+            stringConnection.zRevRangeWithScores(recentKey, 0, limit - 1);
+            return null;
+        });
+
+        double now = weightOf(Instant.now());
+        List<Favorite> frequent = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : (Set<ZSetOperations.TypedTuple<String>>) results.get(0)) {
+            frequent.add(favoriteOf(tuple.getValue(), tuple.getScore() / now, null));
+        }
+
+        List<Favorite> recent = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : (Set<ZSetOperations.TypedTuple<String>>) results.get(1)) {
+            recent.add(favoriteOf(tuple.getValue(), 0, Instant.ofEpochMilli(tuple.getScore().longValue())));
+        }
+
+        return new Favorites(frequent, recent);
+    }
+
+    //최근 rebuild-days 기록으로 다시 만들어 통째로 교체 (같은 space-saving 규칙을 시간순으로 적용)
+    public void rebuild(Integer userId) {
+        List<Intake> intakes = new ArrayList<>(intakeRepository.findByUserIdAndConsumedAtGreaterThanEqual(
+                userId, Instant.now().minus(rebuildDays, ChronoUnit.DAYS)));
+        intakes.sort(Comparator.comparing(Intake::getConsumedAt).thenComparing(Intake::getId));
+
+        Map<String, Double> frequent = new HashMap<>();
+        Map<String, Long> recent = new HashMap<>();
+        for (Intake intake : intakes) {
+            String member = memberOf(intake);
+            double weight = weightOf(intake.getConsumedAt());
+
+            if (frequent.containsKey(member) || frequent.size() < capacity) {
+                frequent.merge(member, weight, Double::sum);
+            } else {
+                Map.Entry<String, Double> smallest = frequent.entrySet().stream().min(Map.Entry.comparingByValue()).get();
+                String evicted = smallest.getKey();
+                double inherited = smallest.getValue();
+                frequent.remove(evicted);
+                frequent.put(member, inherited + weight);
+            }
+            recent.merge(member, intake.getConsumedAt().toEpochMilli(), Math::max);
+        }
+
+        List<Map.Entry<String, Long>> latest = new ArrayList<>(recent.entrySet());
+        latest.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        List<Map.Entry<String, Long>> kept = latest.subList(0, Math.min(maxResults, latest.size()));
+
+        String frequentKey = FREQUENT_PREFIX + userId;
+        String recentKey = RECENT_PREFIX + userId;
+        long ttlMillis = TimeUnit.DAYS.toMillis(ttlDays);
+
+        //MULTI/EXEC -> 조회는 이전 또는 새 목록만 봄
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                ops.delete(List.of(frequentKey, recentKey));
+                for (Map.Entry<String, Double> entry : frequent.entrySet()) ops.opsForZSet().add(frequentKey, entry.getKey(), entry.getValue());
+                for (Map.Entry<String, Long> entry : kept) ops.opsForZSet().add(recentKey, entry.getKey(), entry.getValue());
+                ops.expire(frequentKey, ttlMillis, TimeUnit.MILLISECONDS);
+                ops.expire(recentKey, ttlMillis, TimeUnit.MILLISECONDS);
+                return ops.exec();
+            }
+        });
+    }
+
+    private double weightOf(Instant at) {
+        double halfLifeMillis = halfLifeDays * TimeUnit.DAYS.toMillis(1);
+        return Math.pow(2, (at.toEpochMilli() - LANDMARK.toEpochMilli()) / halfLifeMillis);
+    }
+
+    //같은 음료 판단 기준: 카테고리, 브랜드, 제품명, 사이즈, 함량
+    private static String memberOf(Intake intake) {
+        return String.join(String.valueOf(SEPARATOR), nullToEmpty(intake.getCategory()), nullToEmpty(intake.getBrand()),
+                nullToEmpty(intake.getItem()), nullToEmpty(intake.getSize()), intake.getCaffeineAmount().toString());
+    }
+
+    private static Favorite favoriteOf(String member, double count, Instant lastAt) {
+        String[] fields = member.split(String.valueOf(SEPARATOR), -1);
+        return new Favorite(emptyToNull(fields[0]), emptyToNull(fields[1]), emptyToNull(fields[2]), emptyToNull(fields[3]),
+                Integer.parseInt(fields[4]), Math.round(count * 10) / 10.0, lastAt);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
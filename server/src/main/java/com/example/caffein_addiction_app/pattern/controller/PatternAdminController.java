@@ -0,0 +1,29 @@
+package com.example.caffein_addiction_app.pattern.controller;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.pattern.service.IntakeFeatureJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/patterns")
+@RequiredArgsConstructor
+public class PatternAdminController {
+
+    private final IntakeFeatureJob intakeFeatureJob;
+
+    //백그라운드에서 사용자별 섭취 패턴 특징값 계산 시작 (오늘 끊긴 실행이면 이어서), 이미 실행 중이면 503
+    @PostMapping("/features")
+    public ResponseEntity<?> computeFeatures() {
+        if (!intakeFeatureJob.startJob()) return ResponseDto.serverBusy();
+
+        ResponseDto result = new ResponseDto(202, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+}
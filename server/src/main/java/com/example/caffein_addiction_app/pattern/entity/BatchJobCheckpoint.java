@@ -0,0 +1,37 @@
+package com.example.caffein_addiction_app.pattern.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+//배치 작업 진행 위치 (chunk 결과와 같은 트랜잭션에서 JDBC로 갱신) -> 중단되면 다음 실행이 이어서 처리
+@Entity
+@Table(name = "batch_job_checkpoints")
+@Getter
+@NoArgsConstructor
+public class BatchJobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    //어느 날 기준 실행인지 (날이 바뀌면 처음부터)
+    @Column(name = "run_day", nullable = false)
+    private LocalDate runDay;
+
+    //여기까지 처리한 users.id
+    @Column(name = "last_user_id", nullable = false)
+    private Integer lastUserId;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.example.caffein_addiction_app.pattern.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+//섭취 패턴 예측용 사용자별 특징값 (window-days일 기준, 매일 밤 IntakeFeatureJob이 JDBC로 upsert, JPA로는 읽기만)
+@Entity
+@Table(name = "user_intake_features")
+@Getter
+@NoArgsConstructor
+public class UserIntakeFeatures {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    //기간 마지막 날 (statistics.time-zone 기준, 포함)
+    @Column(name = "window_end_day", nullable = false)
+    private LocalDate windowEndDay;
+
+    //기록이 있는 날 수
+    @Column(name = "active_days", nullable = false)
+    private Integer activeDays;
+
+    //하루 첫 섭취 시각(자정 기준 분)의 중앙값, 기록이 없으면 null
+    @Column(name = "typical_first_intake_minute")
+    private Integer typicalFirstIntakeMinute;
+
+    //평일 / 주말 하루 평균 (mg, 기록 없는 날 포함)
+    @Column(name = "weekday_daily_avg", nullable = false)
+    private Double weekdayDailyAvg;
+
+    @Column(name = "weekend_daily_avg", nullable = false)
+    private Double weekendDailyAvg;
+
+    //late-hour 이후 섭취가 있었던 날 비율 (0 ~ 1)
+    @Column(name = "late_intake_rate", nullable = false)
+    private Double lateIntakeRate;
+
+    //하루 합계의 최소제곱 기울기 (mg/일, 양수면 증가 추세)
+    @Column(name = "daily_trend", nullable = false)
+    private Double dailyTrend;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+}
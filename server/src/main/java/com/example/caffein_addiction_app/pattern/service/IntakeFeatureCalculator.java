@@ -0,0 +1,200 @@
+package com.example.caffein_addiction_app.pattern.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//chunk 하나의 사용자별 특징값 계산 (DB 접근 없음)
+//기록은 사용자순으로 이어 붙인 primitive 배열: 사용자 i의 기록 = [userStart[i], userStart[i + 1]), 사용자 안에서는 시간순
+//사용자 범위를 반씩 나눠 fork-join, 결과도 사용자 index별 primitive 배열에 바로 씀 (객체 생성 없음)
+final class IntakeFeatureCalculator {
+
+    //이 수 이하로 나눠지면 한 task에서 순서대로 계산
+    private static final int SEQUENTIAL_USERS = 64;
+
+    private final int windowDays;
+    private final boolean[] weekend;
+    private final int weekdayCount;
+    private final int weekendCount;
+    private final int lateMinute;
+
+    //weekend[d]: 기간 d번째 날이 토/일요일인지
+    IntakeFeatureCalculator(boolean[] weekend, int lateHour) {
+        this.windowDays = weekend.length;
+        this.weekend = weekend;
+        this.lateMinute = lateHour * 60;
+
+        int weekendDays = 0;
+        for (boolean isWeekend : weekend) if (isWeekend) weekendDays++;
+        this.weekendCount = weekendDays;
+        this.weekdayCount = windowDays - weekendDays;
+    }
+
+    static final class Chunk {
+
+        final int[] userIds;
+        final int[] userStart;
+
+        //기간 시작일부터의 날짜 index, 자정 기준 분, mg
+        final int[] day;
+        final int[] minute;
+        final int[] amount;
+
+        private Chunk(int[] userIds, int[] userStart, int[] day, int[] minute, int[] amount) {
+            this.userIds = userIds;
+            this.userStart = userStart;
+            this.day = day;
+            this.minute = minute;
+            this.amount = amount;
+        }
+    }
+
+    //user_id, consumed_at 순으로 읽은 행을 그대로 추가 (chunk에 없는 사용자 행은 무시)
+    static final class ChunkBuilder {
+
+        private final int[] userIds;
+        private final int[] userStart;
+        private int cursor;
+        private int size;
+        private int[] day = new int[1024];
+        private int[] minute = new int[1024];
+        private int[] amount = new int[1024];
+
+        ChunkBuilder(int[] userIds) {
+            this.userIds = userIds;
+            this.userStart = new int[userIds.length + 1];
+        }
+
+        void add(int userId, int dayIndex, int minuteOfDay, int caffeineAmount) {
+            while (cursor < userIds.length && userIds[cursor] < userId) userStart[++cursor] = size;
+            if (cursor == userIds.length || userIds[cursor] != userId) return;
+
+            if (size == day.length) {
+                day = Arrays.copyOf(day, size * 2);
+                minute = Arrays.copyOf(minute, size * 2);
+                amount = Arrays.copyOf(amount, size * 2);
+            }
+            day[size] = dayIndex;
+            minute[size] = minuteOfDay;
+            amount[size] = caffeineAmount;
+            size++;
+        }
+
+        Chunk build() {
+            while (cursor < userIds.length) userStart[++cursor] = size;
+            return new Chunk(userIds, userStart, day, minute, amount);
+        }
+    }
+
+    //사용자 index별 결과, typicalFirstMinute는 기록이 없으면 -1
+    static final class Features {
+
+        final int[] activeDays;
+        final int[] typicalFirstMinute;
+        final double[] weekdayDailyAvg;
+        final double[] weekendDailyAvg;
+        final double[] lateIntakeRate;
+        final double[] dailyTrend;
+
+        private Features(int users) {
+            activeDays = new int[users];
+            typicalFirstMinute = new int[users];
+            weekdayDailyAvg = new double[users];
+            weekendDailyAvg = new double[users];
+            lateIntakeRate = new double[users];
+            dailyTrend = new double[users];
+        }
+    }
+
+    Features compute(ForkJoinPool pool, Chunk chunk) {
+        Features features = new Features(chunk.userIds.length);
+        pool.invoke(new Task(chunk, features, 0, chunk.userIds.length));
+        return features;
+    }
+
+    private final class Task extends RecursiveAction {
+
+        private final Chunk chunk;
+        private final Features features;
+        private final int from;
+        private final int to;
+
+        private Task(Chunk chunk, Features features, int from, int to) {
+            this.chunk = chunk;
+            this.features = features;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_USERS) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Task(chunk, features, from, middle), new Task(chunk, features, middle, to));
+                return;
+            }
+
+            //task 안에서 사용자마다 재사용
+            double[] dailyTotal = new double[windowDays];
+            int[] firstMinute = new int[windowDays];
+            boolean[] lateDay = new boolean[windowDays];
+            int[] sorted = new int[windowDays];
+
+            for (int user = from; user < to; user++) {
+                Arrays.fill(dailyTotal, 0);
+                Arrays.fill(firstMinute, -1);
+                Arrays.fill(lateDay, false);
+                computeUser(user, dailyTotal, firstMinute, lateDay, sorted);
+            }
+        }
+
+        private void computeUser(int user, double[] dailyTotal, int[] firstMinute, boolean[] lateDay, int[] sorted) {
+            for (int i = chunk.userStart[user]; i < chunk.userStart[user + 1]; i++) {
+                int d = chunk.day[i];
+                dailyTotal[d] += chunk.amount[i];
+                //시간순이므로 그 날 처음 나온 기록이 첫 섭취
+                if (firstMinute[d] < 0) firstMinute[d] = chunk.minute[i];
+                if (chunk.minute[i] >= lateMinute) lateDay[d] = true;
+            }
+
+            int active = 0;
+            int late = 0;
+            double weekdayTotal = 0;
+            double weekendTotal = 0;
+            for (int d = 0; d < windowDays; d++) {
+                if (firstMinute[d] >= 0) sorted[active++] = firstMinute[d];
+                if (lateDay[d]) late++;
+                if (weekend[d]) weekendTotal += dailyTotal[d];
+                else weekdayTotal += dailyTotal[d];
+            }
+
+            features.activeDays[user] = active;
+            features.typicalFirstMinute[user] = median(sorted, active);
+            features.weekdayDailyAvg[user] = weekdayCount == 0 ? 0 : weekdayTotal / weekdayCount;
+            features.weekendDailyAvg[user] = weekendCount == 0 ? 0 : weekendTotal / weekendCount;
+            features.lateIntakeRate[user] = (double) late / windowDays;
+            features.dailyTrend[user] = slope(dailyTotal);
+        }
+    }
+
+    //기록이 없으면 -1, 짝수 개면 가운데 두 값의 평균
+    private static int median(int[] values, int count) {
+        if (count == 0) return -1;
+
+        Arrays.sort(values, 0, count);
+        if ((count & 1) == 1) return values[count / 2];
+        return (values[count / 2 - 1] + values[count / 2]) / 2;
+    }
+
+    //x = 0..n-1에 대한 최소제곱 기울기: sum((x - mean x) * y) / sum((x - mean x)^2)
+    private double slope(double[] dailyTotal) {
+        if (windowDays < 2) return 0;
+
+        double meanX = (windowDays - 1) / 2.0;
+        double covariance = 0;
+        for (int d = 0; d < windowDays; d++) covariance += (d - meanX) * dailyTotal[d];
+
+        double varianceX = (double) windowDays * ((long) windowDays * windowDays - 1) / 12;
+        return covariance / varianceX;
+    }
+}
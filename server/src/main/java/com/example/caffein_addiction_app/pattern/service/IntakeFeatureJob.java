@@ -0,0 +1,240 @@
+package com.example.caffein_addiction_app.pattern.service;
+
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//섭취 패턴 예측용 사용자별 특징값 야간 배치 (전날까지 window-days일)
+//users.id keyset으로 chunk-users명씩: 기록은 chunk당 쿼리 한 번 -> primitive 배열 -> fork-join 계산 -> batch upsert
+//chunk 결과와 진행 위치(checkpoint)를 같은 트랜잭션으로 저장 -> 중단되면 같은 날 다시 시작할 때 이어서 처리
+@Service
+@RequiredArgsConstructor
+public class IntakeFeatureJob {
+
+    private static final String JOB_NAME = "intake-features";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_intake_features (user_id, window_end_day, active_days, typical_first_intake_minute, " +
+            "weekday_daily_avg, weekend_daily_avg, late_intake_rate, daily_trend, computed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE window_end_day = VALUES(window_end_day), active_days = VALUES(active_days), " +
+            "typical_first_intake_minute = VALUES(typical_first_intake_minute), weekday_daily_avg = VALUES(weekday_daily_avg), " +
+            "weekend_daily_avg = VALUES(weekend_daily_avg), late_intake_rate = VALUES(late_intake_rate), " +
+            "daily_trend = VALUES(daily_trend), computed_at = VALUES(computed_at)";
+
+    private static final String CHECKPOINT_SQL =
+            "INSERT INTO batch_job_checkpoints (job_name, run_day, last_user_id, completed, updated_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE run_day = VALUES(run_day), last_user_id = VALUES(last_user_id), " +
+            "completed = VALUES(completed), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyRollupWriter rollupWriter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${features.window-days:28}")
+    private int windowDays;
+
+    @Value("${features.chunk-users:1000}")
+    private int chunkUsers;
+
+    //0이면 코어 수 / 2
+    @Value("${features.parallelism:0}")
+    private int parallelism;
+
+    //이 시각(시) 이후 섭취를 늦은 섭취로 봄
+    @Value("${features.late-hour:15}")
+    private int lateHour;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    //마지막 실행 처리량 (users/sec)
+    private volatile double throughput;
+
+    private Counter processedUsers;
+
+    @PostConstruct
+    void init() {
+        processedUsers = Counter.builder("features.job.users").register(meterRegistry);
+        Gauge.builder("features.job.throughput", this, job -> job.throughput).baseUnit("users/s").register(meterRegistry);
+        Gauge.builder("features.job.running", running, flag -> flag.get() ? 1 : 0).register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${features.cron:0 30 3 * * *}", zone = "${statistics.time-zone:Asia/Seoul}")
+    public void runNightly() {
+        startJob();
+    }
+
+    //오늘 실행이 도중에 끊긴 채로 재시작된 경우 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        try {
+            Checkpoint checkpoint = loadCheckpoint();
+            if (checkpoint != null && checkpoint.runDay.equals(today()) && !checkpoint.completed) startJob();
+        } catch (Exception e) {
+            //테이블이 아직 없는 경우 (ddl-auto 미사용) -> 수동 생성 필요
+            e.printStackTrace();
+        }
+    }
+
+    //이미 실행 중이면 false
+    public boolean startJob() {
+        if (!running.compareAndSet(false, true)) return false;
+
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                //checkpoint까지는 저장됨 -> 다시 시작하면 이어서
+                e.printStackTrace();
+            } finally {
+                running.set(false);
+            }
+        }, JOB_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void run() {
+        LocalDate runDay = today();
+        LocalDate windowStart = runDay.minusDays(windowDays);
+        LocalDate windowEnd = runDay.minusDays(1);
+
+        //같은 날 이미 끝났으면 건너뜀, 끊긴 실행이면 이어서
+        Checkpoint checkpoint = loadCheckpoint();
+        int lastUserId = 0;
+        if (checkpoint != null && checkpoint.runDay.equals(runDay)) {
+            if (checkpoint.completed) return;
+            lastUserId = checkpoint.lastUserId;
+        }
+
+        boolean[] weekend = new boolean[windowDays];
+        for (int d = 0; d < windowDays; d++) {
+            DayOfWeek dayOfWeek = windowStart.plusDays(d).getDayOfWeek();
+            weekend[d] = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+        }
+        IntakeFeatureCalculator calculator = new IntakeFeatureCalculator(weekend, lateHour);
+
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        long startedAt = System.nanoTime();
+        long processed = 0;
+
+        try {
+            while (true) {
+                List<Integer> ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?", Integer.class, lastUserId, chunkUsers);
+                if (ids.isEmpty()) break;
+
+                int[] userIds = ids.stream().mapToInt(Integer::intValue).toArray();
+                IntakeFeatureCalculator.Chunk chunk = loadChunk(userIds, windowStart, runDay);
+                IntakeFeatureCalculator.Features features = calculator.compute(pool, chunk);
+
+                int chunkLastUserId = userIds[userIds.length - 1];
+                transactionTemplate.executeWithoutResult(status -> {
+                    upsert(userIds, features, windowEnd);
+                    saveCheckpoint(runDay, chunkLastUserId, false);
+                });
+
+                lastUserId = chunkLastUserId;
+                processed += userIds.length;
+                processedUsers.increment(userIds.length);
+
+                if (userIds.length < chunkUsers) break;
+            }
+
+            saveCheckpoint(runDay, lastUserId, true);
+        } finally {
+            pool.shutdown();
+
+            double seconds = Math.max(System.nanoTime() - startedAt, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+            throughput = processed / seconds;
+        }
+    }
+
+    //chunk 사용자들의 기간 내 기록을 한 번에 (user_id, consumed_at 순 -> 사용자별로 이어 붙임)
+    private IntakeFeatureCalculator.Chunk loadChunk(int[] userIds, LocalDate windowStart, LocalDate windowEndExclusive) {
+        ZoneId zone = rollupWriter.getZone();
+        ZoneRules rules = zone.getRules();
+        long startEpochDay = windowStart.toEpochDay();
+
+        IntakeFeatureCalculator.ChunkBuilder builder = new IntakeFeatureCalculator.ChunkBuilder(userIds);
+
+        jdbcTemplate.query(
+                "SELECT user_id, consumed_at, caffeine_amount FROM intakes WHERE user_id BETWEEN ? AND ? " +
+                "AND consumed_at >= ? AND consumed_at < ? ORDER BY user_id, consumed_at",
+                rs -> {
+                    Instant at = rs.getTimestamp(2).toInstant();
+                    long localSeconds = at.getEpochSecond() + rules.getOffset(at).getTotalSeconds();
+                    int day = (int) (Math.floorDiv(localSeconds, 86400) - startEpochDay);
+                    int minute = (int) (Math.floorMod(localSeconds, 86400) / 60);
+                    builder.add(rs.getInt(1), day, minute, rs.getInt(3));
+                },
+                userIds[0], userIds[userIds.length - 1],
+                Timestamp.from(windowStart.atStartOfDay(zone).toInstant()),
+                Timestamp.from(windowEndExclusive.atStartOfDay(zone).toInstant()));
+
+        return builder.build();
+    }
+
+    private void upsert(int[] userIds, IntakeFeatureCalculator.Features features, LocalDate windowEnd) {
+        Date windowEndDay = Date.valueOf(windowEnd);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> rows = new ArrayList<>(userIds.length);
+        for (int i = 0; i < userIds.length; i++) {
+            int first = features.typicalFirstMinute[i];
+            rows.add(new Object[]{userIds[i], windowEndDay, features.activeDays[i], first < 0 ? null : first,
+                    features.weekdayDailyAvg[i], features.weekendDailyAvg[i], features.lateIntakeRate[i],
+                    features.dailyTrend[i], now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    private void saveCheckpoint(LocalDate runDay, int lastUserId, boolean completed) {
+        jdbcTemplate.update(CHECKPOINT_SQL, JOB_NAME, Date.valueOf(runDay), lastUserId, completed, Timestamp.from(Instant.now()));
+    }
+
+    private Checkpoint loadCheckpoint() {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(
+                "SELECT run_day, last_user_id, completed FROM batch_job_checkpoints WHERE job_name = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getDate(1).toLocalDate(), rs.getInt(2), rs.getBoolean(3)),
+                JOB_NAME);
+        return checkpoints.isEmpty() ? null : checkpoints.get(0);
+    }
+
+    private LocalDate today() {
+        return rollupWriter.dayOf(Instant.now());
+    }
+
+    private record Checkpoint(LocalDate runDay, int lastUserId, boolean completed) {
+    }
+}
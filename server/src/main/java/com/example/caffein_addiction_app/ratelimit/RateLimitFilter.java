@@ -0,0 +1,49 @@
+package com.example.caffein_addiction_app.ratelimit;
+
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+//permitAll인 login / refresh를 IP 기준으로 제한 (BCrypt, redis 호출 전에 차단)
+//이메일 기준 제한은 body 파싱이 끝난 AuthServiceImpl.login에서 확인
+//프록시 뒤라면 server.forward-headers-strategy로 getRemoteAddr()가 실제 클라이언트 IP가 되도록 설정
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            PreEncodedResponse.encode(429, ResponseStatus.TOO_MANY_REQUESTS, ResponseMessage.TOO_MANY_REQUESTS);
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimiter.Policy policy = policyOf(request);
+
+        if (policy != null && !rateLimiter.tryAcquire(policy, request.getRemoteAddr())) {
+            PreEncodedResponse.write(response, 429, TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static RateLimiter.Policy policyOf(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) return null;
+
+        String uri = request.getRequestURI();
+        if (uri.equals("/api/auth/login")) return RateLimiter.Policy.LOGIN_IP;
+        if (uri.equals("/api/auth/refresh")) return RateLimiter.Policy.REFRESH_IP;
+        return null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.caffein_addiction_app.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+//1차: 인스턴스 로컬 token bucket (lock 없음, redis 왕복 없음)
+//2차: 로컬 bucket이 near-limit-ratio 이상 소진된 key만 redis sliding window로 전체 한도 확인
+//-> 정상 트래픽은 redis를 거의 안 타고, 인스턴스 N대에서 key 하나가 통과할 수 있는 양은 대략 capacity + N * capacity * ratio
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    public enum Policy {
+        LOGIN_IP("login-ip"),
+        LOGIN_EMAIL("login-email"),
+        REFRESH_IP("refresh-ip");
+
+        private final String tag;
+
+        Policy(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final RedisSlidingWindow slidingWindow;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.slots:65536}")
+    private int slots;
+
+    //로컬 사용량이 capacity의 이 비율을 넘은 key부터 redis 확인
+    @Value("${rate-limit.near-limit-ratio:0.5}")
+    private double nearLimitRatio;
+
+    @Value("${rate-limit.login-ip.capacity:20}")
+    private int loginIpCapacity;
+
+    @Value("${rate-limit.login-ip.window-seconds:60}")
+    private long loginIpWindowSeconds;
+
+    @Value("${rate-limit.login-email.capacity:5}")
+    private int loginEmailCapacity;
+
+    @Value("${rate-limit.login-email.window-seconds:60}")
+    private long loginEmailWindowSeconds;
+
+    @Value("${rate-limit.refresh-ip.capacity:30}")
+    private int refreshIpCapacity;
+
+    @Value("${rate-limit.refresh-ip.window-seconds:60}")
+    private long refreshIpWindowSeconds;
+
+    private final Limit[] limits = new Limit[Policy.values().length];
+
+    @PostConstruct
+    void init() {
+        limits[Policy.LOGIN_IP.ordinal()] = new Limit(Policy.LOGIN_IP, loginIpCapacity, loginIpWindowSeconds);
+        limits[Policy.LOGIN_EMAIL.ordinal()] = new Limit(Policy.LOGIN_EMAIL, loginEmailCapacity, loginEmailWindowSeconds);
+        limits[Policy.REFRESH_IP.ordinal()] = new Limit(Policy.REFRESH_IP, refreshIpCapacity, refreshIpWindowSeconds);
+    }
+
+    public boolean tryAcquire(Policy policy, String key) {
+        if (!enabled || key == null) return true;
+
+        Limit limit = limits[policy.ordinal()];
+
+        int remaining = limit.bucket.tryAcquire(key.hashCode());
+        if (remaining < 0) {
+            limit.localRejected.increment();
+            return false;
+        }
+
+        if (remaining > limit.nearLimitRemaining) return true;
+
+        try {
+            if (slidingWindow.tryAcquire(policy.tag, key, limit.capacity, limit.windowMillis)) return true;
+        } catch (Exception e) {
+            //redis 장애 시 로컬 한도만으로 동작
+            limit.redisErrors.increment();
+            return true;
+        }
+
+        limit.clusterRejected.increment();
+        return false;
+    }
+
+    private class Limit {
+
+        private final int capacity;
+        private final long windowMillis;
+        private final int nearLimitRemaining;
+        private final StripedTokenBucket bucket;
+        private final Counter localRejected;
+        private final Counter clusterRejected;
+        private final Counter redisErrors;
+
+        private Limit(Policy policy, int capacity, long windowSeconds) {
+            this.capacity = capacity;
+            this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+            this.nearLimitRemaining = (int) (capacity * (1 - nearLimitRatio));
+            this.bucket = new StripedTokenBucket(slots, capacity, TimeUnit.SECONDS.toNanos(windowSeconds));
+
+            this.localRejected = Counter.builder("auth.ratelimit.rejected")
+                    .tag("policy", policy.tag).tag("tier", "local").register(meterRegistry);
+            this.clusterRejected = Counter.builder("auth.ratelimit.rejected")
+                    .tag("policy", policy.tag).tag("tier", "redis").register(meterRegistry);
+            this.redisErrors = Counter.builder("auth.ratelimit.redis.errors")
+                    .tag("policy", policy.tag).register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.caffein_addiction_app.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+//인스턴스 전체 공유 한도: sliding window counter (현재 창 + 이전 창 가중치)
+//key당 정수 두 개만 유지, 확인+증가는 lua 한 번으로 원자적
+@Component
+@RequiredArgsConstructor
+public class RedisSlidingWindow {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    //KEYS[1]=현재 창, KEYS[2]=이전 창 / ARGV[1]=한도, ARGV[2]=이전 창 가중치(0~1000), ARGV[3]=만료(ms)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local previous = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "if previous * tonumber(ARGV[2]) / 1000 + current >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean tryAcquire(String policy, String key, int limit, long windowMillis) {
+        long now = System.currentTimeMillis();
+        long window = now / windowMillis;
+
+        //이전 창이 현재 sliding window에 겹치는 비율
+        long previousWeight = 1000 - (now % windowMillis) * 1000 / windowMillis;
+
+        String prefix = KEY_PREFIX + policy + ":" + key + ":";
+        List<String> keys = List.of(prefix + window, prefix + (window - 1));
+
+        Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, keys,
+                String.valueOf(limit), String.valueOf(previousWeight), String.valueOf(windowMillis * 2));
+
+        return acquired == null || acquired == 1L;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.caffein_addiction_app.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//key hash -> 고정 크기 slot 배열의 token bucket (GCRA: slot마다 "다음 토큰이 생기는 시각" long 하나)
+//CAS로만 갱신 -> lock 없음, 요청마다 객체 생성 없음
+//hash가 겹치는 key는 같은 bucket을 나눠 씀 (더 빨리 막힐 뿐 덜 막히지는 않음) -> slot 수로 조절
+final class StripedTokenBucket {
+
+    private final AtomicLongArray theoreticalArrivals;
+    private final int mask;
+    private final long windowNanos;
+    private final long intervalNanos;
+
+    //nanoTime은 음수일 수 있어서 생성 시각 기준으로 0 이상으로 맞춤
+    private final long origin = System.nanoTime();
+
+    StripedTokenBucket(int slots, int capacity, long windowNanos) {
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.theoreticalArrivals = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.windowNanos = windowNanos;
+        this.intervalNanos = Math.max(1, windowNanos / capacity);
+    }
+
+    //토큰 하나 사용 -> 남은 토큰 수, 부족하면 -1
+    int tryAcquire(int hash) {
+        int index = spread(hash) & mask;
+
+        while (true) {
+            long now = System.nanoTime() - origin;
+            long arrival = theoreticalArrivals.get(index);
+            long next = Math.max(arrival, now) + intervalNanos;
+
+            if (next - now > windowNanos) return -1;
+
+            if (theoreticalArrivals.compareAndSet(index, arrival, next)) {
+                return (int) ((windowNanos - (next - now)) / intervalNanos);
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
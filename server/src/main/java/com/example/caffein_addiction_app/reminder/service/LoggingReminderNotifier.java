@@ -0,0 +1,19 @@
+package com.example.caffein_addiction_app.reminder.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+//실제 전달 수단이 붙기 전 기본값 (로그만 남김)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminder.notifier", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderNotifier implements ReminderNotifier {
+
+    @Override
+    public void sleepSafe(Integer userId, Instant dueAt) {
+        log.info("sleep-safe reminder: userId={}, dueAt={}", userId, dueAt);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.caffein_addiction_app.reminder.service;
+
+import java.time.Instant;
+
+//알림 전달 방법 (push, 메일 등) -> reminder.notifier 값으로 구현 선택
+//timing wheel 스레드에서 호출되므로 오래 걸리는 전송은 구현 쪽에서 비동기로
+public interface ReminderNotifier {
+
+    //체내 카페인이 수면 기준 밑으로 내려간 시각 (dueAt)
+    void sleepSafe(Integer userId, Instant dueAt);
+}
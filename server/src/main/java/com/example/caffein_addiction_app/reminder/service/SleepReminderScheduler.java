@@ -0,0 +1,198 @@
+package com.example.caffein_addiction_app.reminder.service;
+
+import com.example.caffein_addiction_app.common.HierarchicalTimingWheel;
+import com.example.caffein_addiction_app.intake.service.CaffeineCurveCache;
+import com.example.caffein_addiction_app.intake.service.CaffeineLevelEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//체내 카페인이 수면 기준(sleep-safe-mg) 밑으로 내려가는 시각에 알림
+//기록이 바뀔 때마다 그 시각을 다시 계산해 timing wheel의 사용자 timer 하나를 교체 (O(1), DB polling 없음)
+//예약은 redis sorted set(score = 만료 시각)에도 저장 -> 재시작 시 복구, 놓친 알림은 max-lateness 안이면 바로 전달
+//모든 인스턴스가 같은 예약을 갖고, 만료 시 redis에서 먼저 지운(claim) 인스턴스 하나만 전달
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reminder.enabled", havingValue = "true")
+public class SleepReminderScheduler {
+
+    private static final String KEY = "reminder:sleep-safe";
+    private static final int LEVELS = 4;
+    private static final int RECOVERY_PAGE_SIZE = 1000;
+    private static final long HALF_LIFE_MILLIS = (long) (CaffeineLevelEngine.HALF_LIFE_HOURS * TimeUnit.HOURS.toMillis(1));
+
+    //KEYS[1]=zset / ARGV[1]=userId, ARGV[2]=만료 시각 -> 그 사이 다시 예약됐거나 다른 인스턴스가 가져갔으면 0
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if score and tonumber(score) == tonumber(ARGV[2]) then " +
+            "  redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final CaffeineLevelEngine caffeineLevelEngine;
+    private final ReminderNotifier reminderNotifier;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reminder.sleep-safe-mg:50}")
+    private double sleepSafeMg;
+
+    //알림 시각 정밀도 (wheel 한 칸), 4 level x 64칸이면 1초 tick 기준 약 194일까지 cascade 없이 표현
+    @Value("${reminder.tick-ms:1000}")
+    private long tickMillis;
+
+    //서버가 내려가 있던 동안 지난 알림은 이보다 늦었으면 전달하지 않고 버림
+    @Value("${reminder.max-lateness-ms:900000}")
+    private long maxLatenessMillis;
+
+    private HierarchicalTimingWheel wheel;
+    private Thread ticker;
+    private volatile boolean running;
+
+    private Counter delivered;
+    private Counter expired;
+
+    @PostConstruct
+    void init() {
+        wheel = new HierarchicalTimingWheel(tickMillis, LEVELS, System.currentTimeMillis());
+
+        delivered = Counter.builder("reminder.delivered").register(meterRegistry);
+        expired = Counter.builder("reminder.expired").register(meterRegistry);
+        Gauge.builder("reminder.scheduled", wheel, HierarchicalTimingWheel::size).register(meterRegistry);
+
+        recover();
+
+        //기록 저장/삭제 알림 (이 인스턴스에서 바뀐 것도 같은 경로로 받음)
+        listenerContainer.addMessageListener(
+                (Message message, byte[] pattern) -> onIntakeChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CaffeineCurveCache.INVALIDATION_CHANNEL));
+
+        running = true;
+        ticker = new Thread(this::tickLoop, "reminder-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    //현재 체내 카페인 기준으로 다시 예약, 이미 기준 밑이면 취소
+    public void reschedule(Integer userId) {
+        double level = caffeineLevelEngine.refresh(userId);
+
+        try {
+            if (level <= sleepSafeMg) {
+                if (wheel.cancel(userId)) redisTemplate.opsForZSet().remove(KEY, userId.toString());
+                return;
+            }
+
+            //level * 0.5^(t / halfLife) = sleepSafeMg, 인스턴스마다 계산 시각이 달라도 같은 값이 되도록 tick 단위로 올림
+            long now = System.currentTimeMillis();
+            long due = now + (long) Math.ceil(HALF_LIFE_MILLIS * Math.log(level / sleepSafeMg) / Math.log(2));
+            due = (due + tickMillis - 1) / tickMillis * tickMillis;
+
+            if (wheel.dueMillis(userId) == due) return;
+            wheel.schedule(userId, due);
+            redisTemplate.opsForZSet().add(KEY, userId.toString(), due);
+        } catch (Exception e) {
+            //redis 저장 실패 -> 이 인스턴스 메모리의 예약은 유지됨 (재시작 시에만 유실)
+            e.printStackTrace();
+        }
+    }
+
+    private void onIntakeChanged(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) return;
+
+        try {
+            reschedule(Integer.valueOf(message.substring(0, separator)));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    //index 기준 page 단위로 읽어 wheel에 다시 등록
+    private void recover() {
+        try {
+            for (long offset = 0; ; offset += RECOVERY_PAGE_SIZE) {
+                Set<ZSetOperations.TypedTuple<String>> page =
+                        redisTemplate.opsForZSet().rangeWithScores(KEY, offset, offset + RECOVERY_PAGE_SIZE - 1);
+                if (page == null || page.isEmpty()) return;
+
+                for (ZSetOperations.TypedTuple<String> tuple : page) {
+                    wheel.schedule(Integer.parseInt(tuple.getValue()), tuple.getScore().longValue());
+                }
+                if (page.size() < RECOVERY_PAGE_SIZE) return;
+            }
+        } catch (Exception e) {
+            //redis 없이도 새 예약은 동작
+            e.printStackTrace();
+        }
+    }
+
+    //tick 경계마다 깨어나 wheel 진행
+    private void tickLoop() {
+        while (running) {
+            try {
+                Thread.sleep(tickMillis - System.currentTimeMillis() % tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                wheel.advance(System.currentTimeMillis(), this::deliver);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void deliver(int userId, long dueMillis) {
+        Long claimed;
+        try {
+            claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(KEY), String.valueOf(userId), String.valueOf(dueMillis));
+        } catch (Exception e) {
+            //redis 장애 중에는 중복 전달보다 누락을 택함
+            e.printStackTrace();
+            return;
+        }
+        if (claimed == null || claimed != 1) return;
+
+        if (System.currentTimeMillis() - dueMillis > maxLatenessMillis) {
+            expired.increment();
+            return;
+        }
+
+        try {
+            reminderNotifier.sleepSafe(userId, Instant.ofEpochMilli(dueMillis));
+            delivered.increment();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.caffein_addiction_app.statistics.controller;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.statistics.service.RollupRebuildService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/statistics")
+@RequiredArgsConstructor
+public class StatisticsAdminController {
+
+    private final RollupRebuildService rollupRebuildService;
+
+    //백그라운드에서 rollup 재생성 시작, 이미 실행 중이면 503
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        if (!rollupRebuildService.startRebuild()) return ResponseDto.serverBusy();
+
+        ResponseDto result = new ResponseDto(202, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.caffein_addiction_app.statistics.controller;
+
+import com.example.caffein_addiction_app.statistics.dto.response.GetStatisticsResponseDto;
+import com.example.caffein_addiction_app.statistics.service.StatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    //unit: daily / weekly / monthly, from ~ to (yyyy-MM-dd, 둘 다 포함)
+    @GetMapping("/{unit}")
+    public ResponseEntity<? super GetStatisticsResponseDto> getStatistics(@AuthenticationPrincipal Integer userId,
+                                                                          @PathVariable String unit,
+                                                                          @RequestParam LocalDate from,
+                                                                          @RequestParam LocalDate to) {
+        ResponseEntity<? super GetStatisticsResponseDto> response = statisticsService.getStatistics(userId, unit, from, to);
+        return response;
+    }
+}
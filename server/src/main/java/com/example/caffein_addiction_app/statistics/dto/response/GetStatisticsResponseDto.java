@@ -0,0 +1,28 @@
+package com.example.caffein_addiction_app.statistics.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class GetStatisticsResponseDto extends ResponseDto {
+
+    private String unit;
+    private List<PeriodStatisticsDto> periods;
+
+    private GetStatisticsResponseDto(String unit, List<PeriodStatisticsDto> periods) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.unit = unit;
+        this.periods = periods;
+    }
+
+    public static ResponseEntity<GetStatisticsResponseDto> success(String unit, List<PeriodStatisticsDto> periods) {
+        GetStatisticsResponseDto result = new GetStatisticsResponseDto(unit, periods);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.caffein_addiction_app.statistics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class PeriodStatisticsDto {
+
+    //조회 기간으로 잘린 [start, end]
+    private LocalDate start;
+    private LocalDate end;
+
+    //mg
+    private long totalAmount;
+    private int intakeCount;
+
+    //totalAmount / 기간 일 수 (기록 없는 날 포함)
+    private double dailyAverage;
+
+    //카테고리별 합계 (mg)
+    private Map<String, Long> categories;
+}
@@ -0,0 +1,28 @@
+package com.example.caffein_addiction_app.statistics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//사용자 / 날짜 / 카테고리별 섭취 합계
+//섭취 기록 저장/삭제와 같은 트랜잭션에서 DailyRollupWriter가 증감 (JPA로는 읽기만)
+@Entity
+@Table(name = "daily_intake_rollups")
+@Getter
+@NoArgsConstructor
+public class DailyIntakeRollup {
+
+    //PK (user_id, day, category) -> 사용자별 기간 조회가 PK 범위 scan
+    @EmbeddedId
+    private DailyIntakeRollupId id;
+
+    //mg
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "intake_count", nullable = false)
+    private Integer intakeCount;
+}
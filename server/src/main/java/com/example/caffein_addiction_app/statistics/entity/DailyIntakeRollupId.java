@@ -0,0 +1,29 @@
+package com.example.caffein_addiction_app.statistics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyIntakeRollupId implements Serializable {
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    //statistics.time-zone 기준 날짜
+    @Column(name = "rollup_day")
+    private LocalDate day;
+
+    @Column(name = "category")
+    private String category;
+}
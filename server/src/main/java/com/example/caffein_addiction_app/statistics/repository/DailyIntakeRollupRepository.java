@@ -0,0 +1,20 @@
+package com.example.caffein_addiction_app.statistics.repository;
+
+import com.example.caffein_addiction_app.statistics.entity.DailyIntakeRollup;
+import com.example.caffein_addiction_app.statistics.entity.DailyIntakeRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyIntakeRollupRepository extends JpaRepository<DailyIntakeRollup, DailyIntakeRollupId> {
+
+    //[from, to] 날짜순
+    @Query("SELECT r FROM DailyIntakeRollup r WHERE r.id.userId = :userId AND r.id.day BETWEEN :from AND :to " +
+            "AND r.intakeCount > 0 ORDER BY r.id.day")
+    List<DailyIntakeRollup> findRange(@Param("userId") Integer userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,123 @@
+package com.example.caffein_addiction_app.statistics.service;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//daily_intake_rollups 증감 (섭취 기록 저장/삭제 트랜잭션 안에서 호출)
+//batch 안의 기록을 (사용자, 날짜, 카테고리)로 먼저 합친 뒤 upsert 한 번씩
+//항상 같은 key 순서로 갱신 -> 동시에 도는 저장/삭제끼리 row lock 순서가 엇갈리지 않음
+@Component
+@RequiredArgsConstructor
+public class DailyRollupWriter {
+
+    public static final String DEFAULT_CATEGORY = "etc";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO daily_intake_rollups (user_id, rollup_day, category, total_amount, intake_count) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), intake_count = intake_count + VALUES(intake_count)";
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM daily_intake_rollups WHERE user_id = ? AND rollup_day = ? AND category = ? AND intake_count <= 0";
+
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator.comparing(RollupKey::userId)
+            .thenComparing(RollupKey::day)
+            .thenComparing(RollupKey::category);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //하루 경계 기준 (사용자별 시간대는 아직 없음)
+    @Value("${statistics.time-zone:Asia/Seoul}")
+    private String timeZone;
+
+    private ZoneId zone;
+
+    @PostConstruct
+    void init() {
+        zone = ZoneId.of(timeZone);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public LocalDate dayOf(Instant at) {
+        return LocalDate.ofInstant(at, zone);
+    }
+
+    //sign: 1 = 저장, -1 = 삭제
+    public void apply(Collection<Intake> intakes, int sign) {
+        Map<RollupKey, long[]> totals = new HashMap<>();
+        for (Intake intake : intakes) {
+            add(totals, intake.getUserId(), intake.getConsumedAt(), intake.getCategory(), intake.getCaffeineAmount());
+        }
+
+        List<RollupKey> keys = new ArrayList<>(totals.keySet());
+        keys.sort(KEY_ORDER);
+
+        List<Object[]> upserts = new ArrayList<>(keys.size());
+        for (RollupKey key : keys) {
+            long[] total = totals.get(key);
+            upserts.add(new Object[]{key.userId, Date.valueOf(key.day), key.category, sign * total[0], sign * (int) total[1]});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+
+        if (sign < 0) {
+            List<Object[]> empties = new ArrayList<>(keys.size());
+            for (RollupKey key : keys) empties.add(new Object[]{key.userId, Date.valueOf(key.day), key.category});
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_SQL, empties);
+        }
+    }
+
+    //원본 기록으로 [fromUserId, toUserId] 사용자들의 rollup을 다시 만듦 (호출 쪽 트랜잭션 안에서)
+    //FOR SHARE로 읽는 동안 해당 사용자 범위의 기록 추가/삭제를 막아 다시 만든 값이 어긋나지 않게 함
+    void rebuildUsers(int fromUserId, int toUserId) {
+        Map<RollupKey, long[]> totals = new HashMap<>();
+
+        jdbcTemplate.query(
+                "SELECT user_id, consumed_at, category, caffeine_amount FROM intakes WHERE user_id BETWEEN ? AND ? FOR SHARE",
+                rs -> {
+                    add(totals, rs.getInt("user_id"), rs.getTimestamp("consumed_at").toInstant(),
+                            rs.getString("category"), rs.getInt("caffeine_amount"));
+                },
+                fromUserId, toUserId);
+
+        jdbcTemplate.update("DELETE FROM daily_intake_rollups WHERE user_id BETWEEN ? AND ?", fromUserId, toUserId);
+
+        List<Object[]> inserts = new ArrayList<>(totals.size());
+        for (Map.Entry<RollupKey, long[]> entry : totals.entrySet()) {
+            RollupKey key = entry.getKey();
+            inserts.add(new Object[]{key.userId, Date.valueOf(key.day), key.category, entry.getValue()[0], (int) entry.getValue()[1]});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, inserts);
+    }
+
+    public static String categoryOf(String category) {
+        return category == null || category.isBlank() ? DEFAULT_CATEGORY : category;
+    }
+
+    //long[]{합계 mg, 횟수}
+    private void add(Map<RollupKey, long[]> totals, Integer userId, Instant consumedAt, String category, int amount) {
+        RollupKey key = new RollupKey(userId, dayOf(consumedAt), categoryOf(category));
+        long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+        total[0] += amount;
+        total[1]++;
+    }
+
+    private record RollupKey(Integer userId, LocalDate day, String category) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.caffein_addiction_app.statistics.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//원본 섭취 기록으로 daily_intake_rollups 전체 재생성 (도입 시 backfill, 시간대 변경, 불일치 복구)
+//사용자 id 범위로 chunk를 나눠 병렬 처리, chunk마다 트랜잭션 하나
+@Service
+@RequiredArgsConstructor
+public class RollupRebuildService {
+
+    private final DailyRollupWriter rollupWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${statistics.rebuild.chunk-users:500}")
+    private int chunkUsers;
+
+    //0이면 코어 수 / 2
+    @Value("${statistics.rebuild.parallelism:0}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    //이미 실행 중이면 false
+    public boolean startRebuild() {
+        if (!running.compareAndSet(false, true)) return false;
+
+        Thread thread = new Thread(() -> {
+            try {
+                rebuildAll();
+            } finally {
+                running.set(false);
+            }
+        }, "rollup-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void rebuildAll() {
+        //기록이 모두 삭제된 사용자의 rollup도 지우도록 두 테이블 중 큰 id까지
+        Integer maxUserId = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE((SELECT MAX(user_id) FROM intakes), 0), COALESCE((SELECT MAX(user_id) FROM daily_intake_rollups), 0))",
+                Integer.class);
+        if (maxUserId == null || maxUserId <= 0) return;
+
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 1; from <= maxUserId; from += chunkUsers) {
+                int fromUserId = from;
+                int toUserId = (int) Math.min((long) from + chunkUsers - 1, maxUserId);
+                chunks.add(executor.submit(() ->
+                        transactionTemplate.executeWithoutResult(status -> rollupWriter.rebuildUsers(fromUserId, toUserId))));
+            }
+
+            //실패한 chunk는 로그만 남기고 나머지는 계속 (다시 실행하면 됨)
+            for (Future<?> chunk : chunks) {
+                try {
+                    chunk.get();
+                } catch (ExecutionException e) {
+                    e.getCause().printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
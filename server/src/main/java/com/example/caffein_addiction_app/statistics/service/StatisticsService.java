@@ -0,0 +1,11 @@
+package com.example.caffein_addiction_app.statistics.service;
+
+import com.example.caffein_addiction_app.statistics.dto.response.GetStatisticsResponseDto;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+
+public interface StatisticsService {
+
+    ResponseEntity<? super GetStatisticsResponseDto> getStatistics(Integer userId, String unit, LocalDate from, LocalDate to);
+}
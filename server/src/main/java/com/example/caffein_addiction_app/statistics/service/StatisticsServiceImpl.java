@@ -0,0 +1,67 @@
+package com.example.caffein_addiction_app.statistics.service;
+
+import com.example.caffein_addiction_app.statistics.dto.response.GetStatisticsResponseDto;
+import com.example.caffein_addiction_app.statistics.dto.response.PeriodStatisticsDto;
+import com.example.caffein_addiction_app.statistics.entity.DailyIntakeRollup;
+import com.example.caffein_addiction_app.statistics.repository.DailyIntakeRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//일/주/월 통계는 daily_intake_rollups만 읽음 (원본 기록 수와 무관하게 기간 일 수 x 카테고리 수)
+@Service
+@RequiredArgsConstructor
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private final DailyIntakeRollupRepository rollupRepository;
+
+    @Override
+    public ResponseEntity<? super GetStatisticsResponseDto> getStatistics(Integer userId, String unitName, LocalDate from, LocalDate to) {
+
+        StatisticsUnit unit = StatisticsUnit.of(unitName);
+        if (unit == null || from == null || to == null || to.isBefore(from)) return GetStatisticsResponseDto.validationFailed();
+        if (ChronoUnit.DAYS.between(from, to) >= unit.getMaxDays()) return GetStatisticsResponseDto.validationFailed();
+
+        List<DailyIntakeRollup> rollups;
+
+        try {
+            rollups = rollupRepository.findRange(userId, from, to);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return GetStatisticsResponseDto.databaseError();
+        }
+
+        //날짜순 rollup을 한 번만 훑으며 기간별로 묶음 (기록 없는 기간도 0으로 포함)
+        List<PeriodStatisticsDto> periods = new ArrayList<>();
+        int cursor = 0;
+
+        for (LocalDate start = unit.startOf(from); !start.isAfter(to); start = unit.next(start)) {
+            LocalDate periodStart = start.isBefore(from) ? from : start;
+            LocalDate periodEnd = unit.next(start).minusDays(1);
+            if (periodEnd.isAfter(to)) periodEnd = to;
+
+            long totalAmount = 0;
+            int intakeCount = 0;
+            Map<String, Long> categories = new TreeMap<>();
+
+            while (cursor < rollups.size() && !rollups.get(cursor).getId().getDay().isAfter(periodEnd)) {
+                DailyIntakeRollup rollup = rollups.get(cursor++);
+                totalAmount += rollup.getTotalAmount();
+                intakeCount += rollup.getIntakeCount();
+                categories.merge(rollup.getId().getCategory(), rollup.getTotalAmount(), Long::sum);
+            }
+
+            long days = ChronoUnit.DAYS.between(periodStart, periodEnd) + 1;
+            periods.add(new PeriodStatisticsDto(periodStart, periodEnd, totalAmount, intakeCount, (double) totalAmount / days, categories));
+        }
+
+        return GetStatisticsResponseDto.success(unit.name().toLowerCase(), periods);
+    }
+}
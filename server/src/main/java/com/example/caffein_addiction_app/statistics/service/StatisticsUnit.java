@@ -0,0 +1,68 @@
+package com.example.caffein_addiction_app.statistics.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum StatisticsUnit {
+
+    DAILY(366) {
+        @Override
+        LocalDate startOf(LocalDate day) {
+            return day;
+        }
+
+        @Override
+        LocalDate next(LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+
+    //월요일 시작
+    WEEKLY(366 * 5) {
+        @Override
+        LocalDate startOf(LocalDate day) {
+            return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        LocalDate next(LocalDate start) {
+            return start.plusWeeks(1);
+        }
+    },
+
+    MONTHLY(366 * 10) {
+        @Override
+        LocalDate startOf(LocalDate day) {
+            return day.withDayOfMonth(1);
+        }
+
+        @Override
+        LocalDate next(LocalDate start) {
+            return start.plusMonths(1);
+        }
+    };
+
+    //한 번에 조회할 수 있는 최대 일 수
+    private final int maxDays;
+
+    StatisticsUnit(int maxDays) {
+        this.maxDays = maxDays;
+    }
+
+    abstract LocalDate startOf(LocalDate day);
+
+    abstract LocalDate next(LocalDate start);
+
+    int getMaxDays() {
+        return maxDays;
+    }
+
+    //daily / weekly / monthly, 없으면 null
+    public static StatisticsUnit of(String name) {
+        for (StatisticsUnit unit : values()) {
+            if (unit.name().equalsIgnoreCase(name)) return unit;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.caffein_addiction_app.sync.controller;
+
+import com.example.caffein_addiction_app.sync.dto.request.PushChangesRequestDto;
+import com.example.caffein_addiction_app.sync.dto.response.PullChangesResponseDto;
+import com.example.caffein_addiction_app.sync.dto.response.PushChangesResponseDto;
+import com.example.caffein_addiction_app.sync.service.SyncService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    //로컬 변경 batch 업로드
+    @PostMapping("/changes")
+    public ResponseEntity<? super PushChangesResponseDto> pushChanges(@AuthenticationPrincipal Integer userId, @Valid @RequestBody PushChangesRequestDto dto) {
+        ResponseEntity<? super PushChangesResponseDto> response = syncService.pushChanges(userId, dto);
+        return response;
+    }
+
+    //cursor 이후 서버 변경분
+    @GetMapping("/changes")
+    public ResponseEntity<? super PullChangesResponseDto> pullChanges(@AuthenticationPrincipal Integer userId,
+                                                                      @RequestParam(required = false) Long cursor,
+                                                                      @RequestParam(defaultValue = "500") int limit) {
+        ResponseEntity<? super PullChangesResponseDto> response = syncService.pullChanges(userId, cursor, limit);
+        return response;
+    }
+}
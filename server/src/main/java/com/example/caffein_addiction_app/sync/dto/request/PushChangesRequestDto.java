@@ -0,0 +1,17 @@
+package com.example.caffein_addiction_app.sync.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PushChangesRequestDto {
+
+    //한 batch는 한 트랜잭션으로 적용, 같은 clientId가 두 번 나오면 안 됨
+    @NotEmpty(message = "changes는 필수 입력 항목입니다.")
+    private List<@Valid SyncChangeRequestDto> changes;
+}
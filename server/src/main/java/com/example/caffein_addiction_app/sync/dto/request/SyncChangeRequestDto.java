@@ -0,0 +1,50 @@
+package com.example.caffein_addiction_app.sync.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+//클라이언트에서 생긴 변경 하나, 같은 변경을 여러 번 보내도 결과는 같음 (clientId + modifiedAt 기준)
+@Getter
+@Setter
+public class SyncChangeRequestDto {
+
+    public static final String UPSERT = "upsert";
+    public static final String DELETE = "delete";
+
+    @NotBlank(message = "clientId는 필수 입력 항목입니다.")
+    @Size(max = 64, message = "clientId는 64자 이하여야 합니다.")
+    private String clientId;
+
+    @NotBlank(message = "op는 필수 입력 항목입니다.")
+    @Pattern(regexp = "upsert|delete", message = "op는 upsert 또는 delete여야 합니다.")
+    private String op;
+
+    //클라이언트에서 수정/삭제한 시각
+    @NotNull(message = "modifiedAt은 필수 입력 항목입니다.")
+    private Instant modifiedAt;
+
+    //아래는 upsert일 때만 (필수 여부는 SyncServiceImpl에서 확인)
+    private Instant timestamp;
+
+    private String category;
+
+    private String brand;
+
+    private String item;
+
+    private String size;
+
+    @PositiveOrZero(message = "카페인 함량은 0 이상이어야 합니다.")
+    private Integer caffeineAmount;
+
+    public boolean isDelete() {
+        return DELETE.equals(op);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.caffein_addiction_app.sync.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class PullChangesResponseDto extends ResponseDto {
+
+    //changeSeq순
+    private List<SyncChangeDto> changes;
+
+    //다음 pull에 보낼 값 (받은 마지막 changeSeq)
+    private Long cursor;
+    private boolean hasMore;
+
+    //cursor가 너무 오래돼서 삭제 기록이 정리됨 -> 로컬 데이터를 버리고 cursor=0부터 다시 받아야 함
+    private boolean resetRequired;
+
+    private PullChangesResponseDto(List<SyncChangeDto> changes, Long cursor, boolean hasMore, boolean resetRequired) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.changes = changes;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+        this.resetRequired = resetRequired;
+    }
+
+    public static ResponseEntity<PullChangesResponseDto> success(List<SyncChangeDto> changes, Long cursor, boolean hasMore) {
+        PullChangesResponseDto result = new PullChangesResponseDto(changes, cursor, hasMore, false);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    public static ResponseEntity<PullChangesResponseDto> resetRequired() {
+        PullChangesResponseDto result = new PullChangesResponseDto(List.of(), 0L, false, true);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
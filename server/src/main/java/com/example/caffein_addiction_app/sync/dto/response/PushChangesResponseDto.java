@@ -0,0 +1,27 @@
+package com.example.caffein_addiction_app.sync.dto.response;
+
+import com.example.caffein_addiction_app.common.ResponseDto;
+import com.example.caffein_addiction_app.common.ResponseMessage;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+public class PushChangesResponseDto extends ResponseDto {
+
+    //요청 changes와 같은 순서
+    private List<SyncResultDto> results;
+
+    private PushChangesResponseDto(List<SyncResultDto> results) {
+        super(200, ResponseStatus.SUCCESS, ResponseMessage.SUCCESS);
+        this.results = results;
+    }
+
+    public static ResponseEntity<PushChangesResponseDto> success(List<SyncResultDto> results) {
+        PushChangesResponseDto result = new PushChangesResponseDto(results);
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.caffein_addiction_app.sync.dto.response;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.sync.dto.request.SyncChangeRequestDto;
+import com.example.caffein_addiction_app.sync.entity.IntakeTombstone;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+//서버 쪽 현재 상태 하나 (op가 delete면 clientId / changeSeq / modifiedAt만)
+@Getter
+@AllArgsConstructor
+public class SyncChangeDto {
+
+    private String clientId;
+    private String op;
+    private Long changeSeq;
+    private Instant modifiedAt;
+    private Long id;
+    private Instant timestamp;
+    private String category;
+    private String brand;
+    private String item;
+    private String size;
+    private Integer caffeineAmount;
+
+    public static SyncChangeDto from(Intake intake) {
+        return new SyncChangeDto(intake.getClientId(), SyncChangeRequestDto.UPSERT, intake.getChangeSeq(), intake.getModifiedAt(),
+                intake.getId(), intake.getConsumedAt(), intake.getCategory(), intake.getBrand(), intake.getItem(),
+                intake.getSize(), intake.getCaffeineAmount());
+    }
+
+    public static SyncChangeDto deleted(String clientId, Long changeSeq, Instant modifiedAt) {
+        return new SyncChangeDto(clientId, SyncChangeRequestDto.DELETE, changeSeq, modifiedAt,
+                null, null, null, null, null, null, null);
+    }
+
+    public static SyncChangeDto from(IntakeTombstone tombstone) {
+        return deleted(tombstone.getClientId(), tombstone.getChangeSeq(), tombstone.getModifiedAt());
+    }
+}
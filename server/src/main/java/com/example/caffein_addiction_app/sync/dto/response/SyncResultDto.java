@@ -0,0 +1,21 @@
+package com.example.caffein_addiction_app.sync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SyncResultDto {
+
+    public static final String APPLIED = "applied";
+    //같은 변경을 이미 받은 경우 (재전송)
+    public static final String DUPLICATE = "duplicate";
+    //서버 쪽이 더 최근에 바뀜 -> current로 덮어써야 함
+    public static final String CONFLICT = "conflict";
+
+    private String clientId;
+    private String status;
+    private Long changeSeq;
+    //conflict일 때 서버 쪽 현재 상태
+    private SyncChangeDto current;
+}
@@ -0,0 +1,42 @@
+package com.example.caffein_addiction_app.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+//삭제된 섭취 기록 표시 (다른 기기가 pull로 삭제를 알 수 있도록)
+//IntakeChangeLog가 JDBC로 upsert/삭제 (JPA로는 읽기만)
+@Entity
+@Table(name = "intake_tombstones", indexes = {
+        @Index(name = "idx_intake_tombstones_user_change_seq", columnList = "user_id, change_seq"),
+        @Index(name = "idx_intake_tombstones_deleted_at", columnList = "deleted_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_intake_tombstones_user_client_id", columnNames = {"user_id", "client_id"})
+})
+@Getter
+@NoArgsConstructor
+public class IntakeTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "client_id", nullable = false, length = 64)
+    private String clientId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    //클라이언트 기준 삭제 시각 (충돌 판단용)
+    @Column(name = "modified_at", nullable = false)
+    private Instant modifiedAt;
+
+    //서버 기준 삭제 시각 (보관 기간 판단용)
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,27 @@
+package com.example.caffein_addiction_app.sync.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//사용자별 마지막 변경 번호 (IntakeChangeLog가 JDBC로 증가, JPA는 테이블 정의용)
+@Entity
+@Table(name = "user_change_sequences")
+@Getter
+@NoArgsConstructor
+public class UserChangeSequence {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    //이 번호 이하의 삭제 표시는 정리됨 -> 이보다 오래된 cursor로는 증분 동기화 불가
+    @Column(name = "purged_seq", nullable = false)
+    private Long purgedSeq;
+}
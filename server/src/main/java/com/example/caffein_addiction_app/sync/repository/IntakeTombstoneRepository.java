@@ -0,0 +1,21 @@
+package com.example.caffein_addiction_app.sync.repository;
+
+import com.example.caffein_addiction_app.sync.entity.IntakeTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface IntakeTombstoneRepository extends JpaRepository<IntakeTombstone, Long> {
+
+    List<IntakeTombstone> findByUserIdAndClientIdIn(Integer userId, Collection<String> clientIds);
+
+    //cursor 이후 삭제, 변경 번호순
+    @Query("SELECT t FROM IntakeTombstone t WHERE t.userId = :userId AND t.changeSeq > :cursor ORDER BY t.changeSeq")
+    List<IntakeTombstone> findChanges(@Param("userId") Integer userId, @Param("cursor") Long cursor, Pageable pageable);
+}
@@ -0,0 +1,137 @@
+package com.example.caffein_addiction_app.sync.service;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//섭취 기록 변경 번호 (사용자별 단조 증가) 발급 + 삭제 표시 기록
+//번호는 user_change_sequences 행 하나를 증가시켜 받고, 그 row lock은 트랜잭션 끝까지 유지됨
+//-> 같은 사용자의 쓰기는 번호 순서대로 commit되므로 pull에서 "cursor 이후"를 읽으면 빠지는 변경이 없음
+//모든 기록 쓰기(저장, 삭제, 동기화)가 호출 쪽 트랜잭션 안에서 이 lock을 가장 먼저 잡음 (lock 순서 고정)
+@Component
+@RequiredArgsConstructor
+public class IntakeChangeLog {
+
+    //LAST_INSERT_ID(expr)는 connection별 값이라 같은 트랜잭션에서 바로 읽을 수 있음
+    private static final String RESERVE_SQL =
+            "INSERT INTO user_change_sequences (user_id, last_seq, purged_seq) VALUES (?, LAST_INSERT_ID(?), 0) " +
+            "ON DUPLICATE KEY UPDATE last_seq = LAST_INSERT_ID(last_seq + ?)";
+
+    private static final String TOMBSTONE_UPSERT_SQL =
+            "INSERT INTO intake_tombstones (user_id, client_id, change_seq, modified_at, deleted_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE change_seq = VALUES(change_seq), modified_at = VALUES(modified_at), deleted_at = VALUES(deleted_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    //이보다 오래된 삭제 표시는 정리, 그 전 cursor를 가진 클라이언트는 처음부터 다시 받아야 함
+    @Value("${sync.tombstone-retention-days:90}")
+    private long tombstoneRetentionDays;
+
+    //count개 번호를 받아 첫 번호 반환 (count = 0이면 lock만 잡음)
+    public long reserve(Integer userId, int count) {
+        jdbcTemplate.update(RESERVE_SQL, userId, count, count);
+        Long last = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        return last - count + 1;
+    }
+
+    //새로 저장하는 기록들에 번호 부여 (사용자 id 순으로 lock)
+    public void assign(Collection<Intake> intakes) {
+        Map<Integer, List<Intake>> byUser = new TreeMap<>();
+        for (Intake intake : intakes) byUser.computeIfAbsent(intake.getUserId(), k -> new ArrayList<>()).add(intake);
+
+        for (Map.Entry<Integer, List<Intake>> entry : byUser.entrySet()) {
+            long seq = reserve(entry.getKey(), entry.getValue().size());
+            for (Intake intake : entry.getValue()) intake.assignChangeSeq(seq++);
+        }
+    }
+
+    public void recordDeletes(Integer userId, List<Tombstone> tombstones) {
+        if (tombstones.isEmpty()) return;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(tombstones.size());
+        for (Tombstone tombstone : tombstones) {
+            rows.add(new Object[]{userId, tombstone.clientId(), tombstone.changeSeq(), Timestamp.from(tombstone.modifiedAt()), now});
+        }
+        jdbcTemplate.batchUpdate(TOMBSTONE_UPSERT_SQL, rows);
+    }
+
+    //삭제됐던 기록이 다시 저장된 경우
+    public void clearDeletes(Integer userId, List<String> clientIds) {
+        if (clientIds.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(clientIds.size());
+        for (String clientId : clientIds) rows.add(new Object[]{userId, clientId});
+        jdbcTemplate.batchUpdate("DELETE FROM intake_tombstones WHERE user_id = ? AND client_id = ?", rows);
+    }
+
+    //이 번호 이하의 삭제 표시는 정리됨, 기록이 없으면 0
+    public long purgedSeq(Integer userId) {
+        List<Long> purged = jdbcTemplate.queryForList(
+                "SELECT purged_seq FROM user_change_sequences WHERE user_id = ?", Long.class, userId);
+        return purged.isEmpty() ? 0 : purged.get(0);
+    }
+
+    //보관 기간이 지난 삭제 표시 정리, 사용자별로 정리한 최대 번호를 purged_seq에 남김 (같은 기준 시각으로 한 트랜잭션)
+    @Scheduled(fixedDelayString = "${sync.tombstone-purge-interval-ms:3600000}")
+    public void purgeTombstones() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(tombstoneRetentionDays, ChronoUnit.DAYS));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(
+                        "UPDATE user_change_sequences s JOIN (" +
+                        "SELECT user_id, MAX(change_seq) AS max_seq FROM intake_tombstones WHERE deleted_at < ? GROUP BY user_id" +
+                        ") t ON s.user_id = t.user_id SET s.purged_seq = GREATEST(s.purged_seq, t.max_seq)",
+                        cutoff);
+                jdbcTemplate.update("DELETE FROM intake_tombstones WHERE deleted_at < ?", cutoff);
+            });
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    //동기화 도입 전 기록에 client_id / change_seq 채우고 사용자별 번호를 그 뒤로 이동
+    //기존 기록이 있을 때 한 번만 의미 있음 (이후에는 대상 행이 없음)
+    @EventListener(ApplicationStartedEvent.class)
+    public void backfillLegacyIntakes() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int updated = jdbcTemplate.update(
+                        "UPDATE intakes i JOIN (" +
+                        "SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY id) AS rn FROM intakes WHERE change_seq IS NULL" +
+                        ") r ON i.id = r.id " +
+                        "SET i.change_seq = r.rn + COALESCE((SELECT s.last_seq FROM user_change_sequences s WHERE s.user_id = i.user_id), 0), " +
+                        "i.client_id = COALESCE(i.client_id, UUID()), i.modified_at = COALESCE(i.modified_at, i.consumed_at)");
+                if (updated == 0) return;
+
+                jdbcTemplate.update(
+                        "INSERT INTO user_change_sequences (user_id, last_seq, purged_seq) " +
+                        "SELECT user_id, MAX(change_seq), 0 FROM intakes GROUP BY user_id " +
+                        "ON DUPLICATE KEY UPDATE last_seq = GREATEST(last_seq, VALUES(last_seq))");
+            });
+        } catch (Exception e) {
+            //테이블이 아직 없는 경우 (ddl-auto 미사용) -> 수동 생성 필요
+            e.printStackTrace();
+        }
+    }
+
+    public record Tombstone(String clientId, long changeSeq, Instant modifiedAt) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.caffein_addiction_app.sync.service;
+
+import com.example.caffein_addiction_app.sync.dto.request.PushChangesRequestDto;
+import com.example.caffein_addiction_app.sync.dto.response.PullChangesResponseDto;
+import com.example.caffein_addiction_app.sync.dto.response.PushChangesResponseDto;
+import org.springframework.http.ResponseEntity;
+
+public interface SyncService {
+
+    ResponseEntity<? super PushChangesResponseDto> pushChanges(Integer userId, PushChangesRequestDto dto);
+    ResponseEntity<? super PullChangesResponseDto> pullChanges(Integer userId, Long cursor, int limit);
+}
@@ -0,0 +1,257 @@
+package com.example.caffein_addiction_app.sync.service;
+
+import com.example.caffein_addiction_app.challenge.service.ChallengeScoreUpdater;
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import com.example.caffein_addiction_app.intake.service.CaffeineCurveCache;
+import com.example.caffein_addiction_app.intake.service.CaffeineLevelEngine;
+import com.example.caffein_addiction_app.intake.service.QuickAddFavorites;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import com.example.caffein_addiction_app.sync.dto.request.PushChangesRequestDto;
+import com.example.caffein_addiction_app.sync.dto.request.SyncChangeRequestDto;
+import com.example.caffein_addiction_app.sync.dto.response.PullChangesResponseDto;
+import com.example.caffein_addiction_app.sync.dto.response.PushChangesResponseDto;
+import com.example.caffein_addiction_app.sync.dto.response.SyncChangeDto;
+import com.example.caffein_addiction_app.sync.dto.response.SyncResultDto;
+import com.example.caffein_addiction_app.sync.entity.IntakeTombstone;
+import com.example.caffein_addiction_app.sync.repository.IntakeTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//오프라인 우선 클라이언트용 증분 동기화
+//push: clientId 기준 upsert/delete batch를 한 트랜잭션으로 적용, 충돌은 modifiedAt이 늦은 쪽이 이김 (같으면 삭제가 이김)
+//pull: 사용자별 변경 번호(change_seq) cursor 이후 저장/삭제만 반환
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    private static final int MAX_PULL_LIMIT = 1000;
+
+    private final IntakeRepository intakeRepository;
+    private final IntakeTombstoneRepository tombstoneRepository;
+    private final IntakeChangeLog changeLog;
+    private final DailyRollupWriter rollupWriter;
+    private final CaffeineLevelEngine caffeineLevelEngine;
+    private final CaffeineCurveCache caffeineCurveCache;
+    private final ChallengeScoreUpdater challengeScoreUpdater;
+    private final QuickAddFavorites quickAddFavorites;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${sync.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Override
+    public ResponseEntity<? super PushChangesResponseDto> pushChanges(Integer userId, PushChangesRequestDto dto) {
+
+        List<SyncChangeRequestDto> changes = dto.getChanges();
+        if (changes.size() > maxBatchSize) return PushChangesResponseDto.validationFailed();
+
+        Set<String> clientIds = new HashSet<>();
+        for (SyncChangeRequestDto change : changes) {
+            if (!clientIds.add(change.getClientId())) return PushChangesResponseDto.validationFailed();
+            if (!change.isDelete() && (change.getTimestamp() == null || isBlank(change.getCategory())
+                    || isBlank(change.getItem()) || change.getCaffeineAmount() == null)) {
+                return PushChangesResponseDto.validationFailed();
+            }
+        }
+
+        Push push;
+
+        try {
+            push = transactionTemplate.execute(status -> apply(userId, changes, clientIds));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return PushChangesResponseDto.databaseError();
+        }
+
+        //commit 후 메모리 누적값/곡선 캐시 반영 (실패해도 DB는 이미 반영됨)
+        try {
+            for (Intake intake : push.added) {
+                caffeineLevelEngine.add(userId, intake.getConsumedAt(), intake.getCaffeineAmount());
+                caffeineCurveCache.invalidate(userId, intake.getConsumedAt());
+                quickAddFavorites.record(intake, 1);
+            }
+            for (Intake intake : push.removed) {
+                caffeineLevelEngine.add(userId, intake.getConsumedAt(), -intake.getCaffeineAmount());
+                caffeineCurveCache.invalidate(userId, intake.getConsumedAt());
+                quickAddFavorites.record(intake, -1);
+            }
+            if (!push.added.isEmpty() || !push.removed.isEmpty()) challengeScoreUpdater.markDirty(userId);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        return PushChangesResponseDto.success(push.results);
+    }
+
+    @Override
+    public ResponseEntity<? super PullChangesResponseDto> pullChanges(Integer userId, Long cursor, int limit) {
+
+        if (cursor == null) cursor = 0L;
+        if (cursor < 0 || limit < 1 || limit > MAX_PULL_LIMIT) return PullChangesResponseDto.validationFailed();
+
+        List<Intake> intakes;
+        List<IntakeTombstone> tombstones;
+
+        try {
+            if (cursor > 0 && cursor < changeLog.purgedSeq(userId)) return PullChangesResponseDto.resetRequired();
+
+            //두 목록을 각각 limit + 1개씩 읽어 번호순으로 합침 (번호는 사용자 안에서 겹치지 않음)
+            PageRequest page = PageRequest.of(0, limit + 1);
+            intakes = intakeRepository.findChanges(userId, cursor, page);
+            tombstones = tombstoneRepository.findChanges(userId, cursor, page);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return PullChangesResponseDto.databaseError();
+        }
+
+        List<SyncChangeDto> merged = new ArrayList<>(Math.min(limit, intakes.size() + tombstones.size()));
+        int i = 0;
+        int t = 0;
+        while (merged.size() < limit && (i < intakes.size() || t < tombstones.size())) {
+            boolean takeIntake = t >= tombstones.size()
+                    || (i < intakes.size() && intakes.get(i).getChangeSeq() < tombstones.get(t).getChangeSeq());
+            merged.add(takeIntake ? SyncChangeDto.from(intakes.get(i++)) : SyncChangeDto.from(tombstones.get(t++)));
+        }
+
+        boolean hasMore = i < intakes.size() || t < tombstones.size();
+        Long nextCursor = merged.isEmpty() ? cursor : merged.get(merged.size() - 1).getChangeSeq();
+
+        return PullChangesResponseDto.success(merged, nextCursor, hasMore);
+    }
+
+    //트랜잭션 안: 변경 번호 lock -> 현재 상태 조회 -> 충돌 판단 -> batch 반영
+    private Push apply(Integer userId, List<SyncChangeRequestDto> changes, Set<String> clientIds) {
+        //같은 사용자의 다른 쓰기와 직렬화 (기록/삭제 표시 조회 전에)
+        changeLog.reserve(userId, 0);
+
+        Map<String, Intake> existing = new HashMap<>();
+        for (Intake intake : intakeRepository.findByUserIdAndClientIdIn(userId, clientIds)) existing.put(intake.getClientId(), intake);
+
+        Map<String, IntakeTombstone> deleted = new HashMap<>();
+        for (IntakeTombstone tombstone : tombstoneRepository.findByUserIdAndClientIdIn(userId, clientIds)) deleted.put(tombstone.getClientId(), tombstone);
+
+        Push push = new Push();
+        List<Intake> inserts = new ArrayList<>();
+        List<Intake> deletes = new ArrayList<>();
+        List<String> resurrected = new ArrayList<>();
+        //번호를 받을 변경 (Intake 또는 삭제되는 clientId), results의 index와 함께
+        List<Object> numbered = new ArrayList<>();
+        List<Integer> numberedResults = new ArrayList<>();
+
+        for (SyncChangeRequestDto change : changes) {
+            Intake row = existing.get(change.getClientId());
+            IntakeTombstone tombstone = deleted.get(change.getClientId());
+            Instant modifiedAt = change.getModifiedAt();
+
+            if (change.isDelete()) {
+                if (row != null && modifiedAtOf(row).isAfter(modifiedAt)) {
+                    push.results.add(conflict(SyncChangeDto.from(row)));
+                    continue;
+                }
+                if (row == null && tombstone != null) {
+                    push.results.add(new SyncResultDto(change.getClientId(), SyncResultDto.DUPLICATE, tombstone.getChangeSeq(), null));
+                    continue;
+                }
+                //서버에 없던 기록도 삭제 표시는 남김 (다른 기기에만 있을 수 있음)
+                if (row != null) {
+                    deletes.add(row);
+                    push.removed.add(row);
+                }
+                numbered.add(change);
+            } else {
+                if (row != null) {
+                    if (modifiedAtOf(row).equals(modifiedAt)) {
+                        push.results.add(new SyncResultDto(change.getClientId(), SyncResultDto.DUPLICATE, row.getChangeSeq(), null));
+                        continue;
+                    }
+                    if (modifiedAtOf(row).isAfter(modifiedAt)) {
+                        push.results.add(conflict(SyncChangeDto.from(row)));
+                        continue;
+                    }
+                    push.removed.add(row.copy());
+                    row.update(change);
+                    push.added.add(row);
+                    numbered.add(row);
+                } else {
+                    if (tombstone != null && !tombstone.getModifiedAt().isBefore(modifiedAt)) {
+                        push.results.add(conflict(SyncChangeDto.from(tombstone)));
+                        continue;
+                    }
+                    if (tombstone != null) resurrected.add(change.getClientId());
+
+                    Intake intake = new Intake(userId, change);
+                    inserts.add(intake);
+                    push.added.add(intake);
+                    numbered.add(intake);
+                }
+            }
+
+            numberedResults.add(push.results.size());
+            push.results.add(null);
+        }
+
+        if (numbered.isEmpty()) return push;
+
+        long seq = changeLog.reserve(userId, numbered.size());
+        List<IntakeChangeLog.Tombstone> tombstones = new ArrayList<>();
+
+        for (int k = 0; k < numbered.size(); k++, seq++) {
+            Object target = numbered.get(k);
+            String clientId;
+
+            if (target instanceof Intake intake) {
+                intake.assignChangeSeq(seq);
+                clientId = intake.getClientId();
+            } else {
+                SyncChangeRequestDto change = (SyncChangeRequestDto) target;
+                tombstones.add(new IntakeChangeLog.Tombstone(change.getClientId(), seq, change.getModifiedAt()));
+                clientId = change.getClientId();
+            }
+            push.results.set(numberedResults.get(k), new SyncResultDto(clientId, SyncResultDto.APPLIED, seq, null));
+        }
+
+        //insert / update / delete는 flush 때 JDBC batch, 삭제 표시와 rollup은 batchUpdate
+        intakeRepository.saveAll(inserts);
+        intakeRepository.deleteAll(deletes);
+        changeLog.recordDeletes(userId, tombstones);
+        changeLog.clearDeletes(userId, resurrected);
+
+        if (!push.removed.isEmpty()) rollupWriter.apply(push.removed, -1);
+        if (!push.added.isEmpty()) rollupWriter.apply(push.added, 1);
+
+        return push;
+    }
+
+    //동기화 도입 전 기록 (backfill 전) 대비
+    private static Instant modifiedAtOf(Intake intake) {
+        return intake.getModifiedAt() != null ? intake.getModifiedAt() : Instant.EPOCH;
+    }
+
+    private static SyncResultDto conflict(SyncChangeDto current) {
+        return new SyncResultDto(current.getClientId(), SyncResultDto.CONFLICT, current.getChangeSeq(), current);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static class Push {
+        private final List<SyncResultDto> results = new ArrayList<>();
+        //commit 후 누적값에서 더할 / 뺄 기록 (수정은 이전 값을 빼고 새 값을 더함)
+        private final List<Intake> added = new ArrayList<>();
+        private final List<Intake> removed = new ArrayList<>();
+    }
+}
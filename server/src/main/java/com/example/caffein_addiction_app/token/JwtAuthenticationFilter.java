@@ -1,7 +1,7 @@
 package com.example.caffein_addiction_app.token;
 
 
-import io.jsonwebtoken.ExpiredJwtException;
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,42 +23,41 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+   private static final byte[] EXPIRED_TOKEN_BODY = PreEncodedResponse.encode(403, "NP", "Expired token.");
+
    private final JwtProvider jwtProvider;
+   private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
    @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-       try{
-           String token = parseBearerToken(request);
-
-           if(token == null){
-               filterChain.doFilter(request, response);
-               return;
-           }
-
-           Integer id = jwtProvider.validateAccessToken(token);
+       String token = parseBearerToken(request);
 
-           if(id == null){
-               filterChain.doFilter(request,response);
-               return;
-           }
+       if(token == null){
+           filterChain.doFilter(request, response);
+           return;
+       }
 
-           AbstractAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(id, null, AuthorityUtils.NO_AUTHORITIES);
-           authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+       TokenValidationResult result = jwtProvider.checkAccessToken(token);
 
-           SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
-           securityContext.setAuthentication(authenticationToken);
+       if(result.isExpired()){
+           PreEncodedResponse.write(response, HttpServletResponse.SC_UNAUTHORIZED, EXPIRED_TOKEN_BODY);
+           return;
+       }
 
-           SecurityContextHolder.setContext(securityContext);
-       }catch (ExpiredJwtException e){
-           response.setContentType("application/json");
-           response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-           response.getWriter().write("{\"code\":403,\"status\":\"NP\",\"message\":\"Expired token.\"}");
+       if(!result.isValid()){
+           filterChain.doFilter(request,response);
            return;
-       }catch (Exception e){
-           e.printStackTrace();
        }
 
+       AbstractAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(result.getUserId(), null, AuthorityUtils.NO_AUTHORITIES);
+       authenticationToken.setDetails(authenticationDetailsSource.buildDetails(request));
+
+       SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+       securityContext.setAuthentication(authenticationToken);
+
+       SecurityContextHolder.setContext(securityContext);
+
        filterChain.doFilter(request,response);
    }
 
@@ -2,105 +2,199 @@ package com.example.caffein_addiction_app.token;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.io.Decoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import javax.crypto.spec.SecretKeySpec;
 import java.security.Key;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
+    //peekExpirationMillis 반환값: 형식 오류 / exp 없음
+    private static final long MALFORMED = -2;
+    private static final long UNKNOWN = -1;
+
     @Value("${secret-key}")
     private String accessKey;
 
     @Value("${refresh-key}")
     private String refreshKey;
 
+    //검증된 access token 캐시 사용 여부 (기본 off)
+    @Value("${jwt.access-cache.enabled:false}")
+    private boolean accessCacheEnabled;
+
+    @Value("${jwt.access-cache.max-size:10000}")
+    private int accessCacheMaxSize;
+
+    //key, parser는 시작할 때 한 번만 생성 (JwtParser는 thread-safe)
+    private Key accessSigningKey;
+    private Key refreshSigningKey;
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
+    private VerifiedTokenCache accessTokenCache;
+
+    private final MeterRegistry meterRegistry;
+    private Timer signAccessTimer;
+    private Timer signRefreshTimer;
+    private Timer verifyAccessTimer;
+    private Timer verifyRefreshTimer;
+
+    @PostConstruct
+    void init() {
+        //기존 signWith(alg, String)과 같은 방식으로 base64 디코딩
+        accessSigningKey = new SecretKeySpec(Decoders.BASE64.decode(accessKey), SignatureAlgorithm.HS256.getJcaName());
+        refreshSigningKey = new SecretKeySpec(Decoders.BASE64.decode(refreshKey), SignatureAlgorithm.HS256.getJcaName());
+
+        accessParser = Jwts.parserBuilder().setSigningKey(accessSigningKey).build();
+        refreshParser = Jwts.parserBuilder().setSigningKey(refreshSigningKey).build();
+
+        if (accessCacheEnabled) accessTokenCache = new VerifiedTokenCache(accessCacheMaxSize);
+
+        signAccessTimer = Timer.builder("auth.jwt").tag("operation", "sign").tag("token", "access").register(meterRegistry);
+        signRefreshTimer = Timer.builder("auth.jwt").tag("operation", "sign").tag("token", "refresh").register(meterRegistry);
+        verifyAccessTimer = Timer.builder("auth.jwt").tag("operation", "verify").tag("token", "access").register(meterRegistry);
+        verifyRefreshTimer = Timer.builder("auth.jwt").tag("operation", "verify").tag("token", "refresh").register(meterRegistry);
+    }
+
     public String createAccessKey(Integer Id){
+        long start = System.nanoTime();
         Date expiredDate = Date.from(Instant.now().plus(20, ChronoUnit.MINUTES));
-        Key key = Keys.hmacShaKeyFor(accessKey.getBytes(StandardCharsets.UTF_8));
 
         String jwt = Jwts.builder()
-                .signWith(SignatureAlgorithm.HS256, accessKey)
+                .signWith(accessSigningKey, SignatureAlgorithm.HS256)
                 .setSubject(Id.toString()).setIssuedAt(new Date()).setExpiration(expiredDate)
                 .compact();
 
+        signAccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return jwt;
     }
 
     public String createRefreshKey(Integer Id){
+        long start = System.nanoTime();
         Date expiredDate = Date.from(Instant.now().plus(30, ChronoUnit.DAYS));
-        Key key = Keys.hmacShaKeyFor(refreshKey.getBytes(StandardCharsets.UTF_8));
 
         String jwt = Jwts.builder()
-                .signWith(SignatureAlgorithm.HS256, refreshKey)
+                .signWith(refreshSigningKey, SignatureAlgorithm.HS256)
                 .setSubject(Id.toString()).setIssuedAt(new Date()).setExpiration(expiredDate)
                 .compact();
 
+        signRefreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return jwt;
     }
 
-    public Integer validateAccessToken(String jwt){
-        Claims claims = null;
-
-        try{
-            claims = Jwts.parserBuilder()
-                    .setSigningKey(accessKey)
-                    .build()
-                    .parseClaimsJws(jwt).getBody();
-        }catch (ExpiredJwtException e){
-            e.printStackTrace();
-            throw e;
-        }catch (Exception e){
-            e.printStackTrace();
-            return null;
+    public TokenValidationResult checkAccessToken(String jwt){
+        if (accessTokenCache != null && jwt != null) {
+            TokenValidationResult cached = accessTokenCache.get(jwt);
+            if (cached != null) return cached;
         }
 
-        Integer id = Integer.valueOf(claims.getSubject());
-
-        return id;
-    }
+        TokenValidationResult result = checkToken(jwt, accessParser, verifyAccessTimer);
 
-    public Integer validateRefreshToken(String jwt){
-        Claims claims = null;
-
-        try{
-            claims = Jwts.parserBuilder()
-                    .setSigningKey(refreshKey)
-                    .build()
-                    .parseClaimsJws(jwt).getBody();
-        }catch (ExpiredJwtException e){
-            e.printStackTrace();
-            throw e;
-        }catch (Exception e){
-            e.printStackTrace();
-            return null;
-        }
+        if (accessTokenCache != null && result.isValid()) accessTokenCache.put(jwt, result);
 
-        Integer id = Integer.valueOf(claims.getSubject());
+        return result;
+    }
 
-        return id;
+    public TokenValidationResult checkRefreshToken(String jwt){
+        return checkToken(jwt, refreshParser, verifyRefreshTimer);
     }
 
     //refresh 토큰 남은 시간 리턴
     public Duration getRemainingValidity(String refreshToken) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(refreshKey)
-                .build()
-                .parseClaimsJws(refreshToken)
-                .getBody();
+        Claims claims = refreshParser.parseClaimsJws(refreshToken).getBody();
 
         Date exp = claims.getExpiration();
         long seconds = Duration.between(Instant.now(), exp.toInstant()).getSeconds();
 
         return Duration.ofSeconds(Math.max(seconds, 0));
     }
+
+    //캐시 비활성화 상태면 null
+    public VerifiedTokenCache getAccessTokenCache() {
+        return accessTokenCache;
+    }
+
+    //잘못된/만료된 토큰은 예외나 stack trace 없이 결과로 돌려줌
+    private static TokenValidationResult checkToken(String jwt, JwtParser parser, Timer verifyTimer) {
+        if (jwt == null) return TokenValidationResult.invalid();
+
+        long expiresAtMillis = peekExpirationMillis(jwt);
+        if (expiresAtMillis == MALFORMED) return TokenValidationResult.invalid();
+        if (expiresAtMillis != UNKNOWN && expiresAtMillis < System.currentTimeMillis()) return TokenValidationResult.expired();
+
+        long start = System.nanoTime();
+        try {
+            Claims claims = parser.parseClaimsJws(jwt).getBody();
+            Date expiration = claims.getExpiration();
+            return TokenValidationResult.valid(Integer.valueOf(claims.getSubject()),
+                    expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        } catch (ExpiredJwtException e) {
+            return TokenValidationResult.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenValidationResult.invalid();
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    //서명 검증 전에 형식과 exp만 확인 -> 깨진 토큰, 만료된 토큰은 jjwt 예외를 만들지 않고 거절
+    //(만료 판단이 서명 확인보다 먼저라 위조된 만료 토큰도 "만료"로 응답함, 인증은 어느 쪽이든 실패)
+    private static long peekExpirationMillis(String jwt) {
+        int first = jwt.indexOf('.');
+        int second = first < 0 ? -1 : jwt.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == jwt.length() - 1) return MALFORMED;
+
+        for (int i = 0; i < jwt.length(); i++) {
+            char c = jwt.charAt(i);
+            boolean base64Url = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!base64Url && !(c == '.' && (i == first || i == second))) return MALFORMED;
+        }
+
+        int payloadLength = second - first - 1;
+        if (payloadLength % 4 == 1) return MALFORMED;
+
+        byte[] payload = Base64.getUrlDecoder().decode(jwt.substring(first + 1, second));
+        return findExpirationMillis(payload);
+    }
+
+    //payload JSON에서 "exp": <숫자> 를 찾아 ms로 변환, 없으면 UNKNOWN
+    private static long findExpirationMillis(byte[] payload) {
+        for (int i = 0; i + 4 < payload.length; i++) {
+            if (payload[i] != '"' || payload[i + 1] != 'e' || payload[i + 2] != 'x' || payload[i + 3] != 'p' || payload[i + 4] != '"') continue;
+
+            int j = i + 5;
+            while (j < payload.length && payload[j] == ' ') j++;
+            if (j >= payload.length || payload[j] != ':') return UNKNOWN;
+            j++;
+            while (j < payload.length && payload[j] == ' ') j++;
+
+            long seconds = 0;
+            int digits = 0;
+            while (j < payload.length && payload[j] >= '0' && payload[j] <= '9' && digits < 15) {
+                seconds = seconds * 10 + (payload[j] - '0');
+                j++;
+                digits++;
+            }
+            return digits == 0 ? UNKNOWN : seconds * 1000;
+        }
+        return UNKNOWN;
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.caffein_addiction_app.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+//토큰 원문 대신 쓰는 고정 길이 digest (redis key, 캐시 key)
+public final class TokenDigest {
+
+    //SHA-256 앞 16바이트 -> base64url 22자
+    public static final int SHORT_DIGEST_BYTES = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private TokenDigest() {
+    }
+
+    public static byte[] shortDigestBytes(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Arrays.copyOf(hash, SHORT_DIGEST_BYTES);
+    }
+
+    public static String shortDigest(String token) {
+        return encode(shortDigestBytes(token));
+    }
+
+    public static String encode(byte[] shortDigest) {
+        return ENCODER.encodeToString(shortDigest);
+    }
+
+    public static byte[] decode(String shortDigest) {
+        return DECODER.decode(shortDigest);
+    }
+}
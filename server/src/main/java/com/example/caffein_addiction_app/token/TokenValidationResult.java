@@ -0,0 +1,54 @@
+package com.example.caffein_addiction_app.token;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+//토큰 검증 결과 (예외 대신 반환)
+@Getter
+public final class TokenValidationResult {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    private static final TokenValidationResult EXPIRED = new TokenValidationResult(Status.EXPIRED, null, 0);
+    private static final TokenValidationResult INVALID = new TokenValidationResult(Status.INVALID, null, 0);
+
+    private final Status status;
+    private final Integer userId;
+    private final long expiresAtMillis;
+
+    private TokenValidationResult(Status status, Integer userId, long expiresAtMillis) {
+        this.status = status;
+        this.userId = userId;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public static TokenValidationResult valid(Integer userId, long expiresAtMillis) {
+        return new TokenValidationResult(Status.VALID, userId, expiresAtMillis);
+    }
+
+    public static TokenValidationResult expired() {
+        return EXPIRED;
+    }
+
+    public static TokenValidationResult invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+
+    public Duration getRemainingValidity() {
+        long millis = expiresAtMillis - System.currentTimeMillis();
+        return Duration.ofSeconds(Math.max(millis / 1000, 0));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.caffein_addiction_app.token;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//이미 검증된 access token 캐시 (token digest -> 검증 결과(userId + 만료시각))
+//같은 클라이언트의 반복 요청은 서명 검증을 다시 하지 않음
+//두 세대로 크기 제한: 새 항목은 current에, current가 maxSize / 2가 되면 통째로 previous로 내리고 이전 previous는 버림
+//previous에서 찾은 항목은 current로 올림 -> 자주 쓰는 토큰은 남고, 전체 scan 없이 항목당 O(1), 최대 maxSize개
+public class VerifiedTokenCache {
+
+    private final int generationSize;
+    private volatile Map<String, TokenValidationResult> current = new ConcurrentHashMap<>();
+    private volatile Map<String, TokenValidationResult> previous = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(int maxSize) {
+        this.generationSize = Math.max(1, maxSize / 2);
+    }
+
+    public TokenValidationResult get(String token) {
+        String key = TokenDigest.shortDigest(token);
+        Map<String, TokenValidationResult> generation = current;
+        TokenValidationResult entry = generation.get(key);
+
+        if (entry == null) {
+            generation = previous;
+            entry = generation.get(key);
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        //만료된 항목은 바로 제거하고 원래 검증 경로로 보냄
+        if (entry.getExpiresAtMillis() <= System.currentTimeMillis()) {
+            generation.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        if (generation != current) store(key, entry);
+
+        hits.increment();
+        return entry;
+    }
+
+    public void put(String token, TokenValidationResult result) {
+        store(TokenDigest.shortDigest(token), result);
+    }
+
+    private void store(String key, TokenValidationResult result) {
+        current.put(key, result);
+        if (current.size() >= generationSize) rotate();
+    }
+
+    //만료된 항목은 따로 지우지 않아도 두 번 교체되면 사라짐
+    private synchronized void rotate() {
+        if (current.size() < generationSize) return;
+        previous = current;
+        current = new ConcurrentHashMap<>();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return current.size() + previous.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.caffein_addiction_app.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer<Integer>(5).capacity());
+        assertEquals(8, new AuditRingBuffer<Integer>(8).capacity());
+        assertEquals(8192, new AuditRingBuffer<Integer>(8192).capacity());
+    }
+
+    @Test
+    void drainsInOfferOrder() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) assertTrue(buffer.offer(i));
+        assertEquals(5, buffer.size());
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(3, buffer.drainTo(batch, 3));
+        assertEquals(2, buffer.drainTo(batch, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), batch);
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.drainTo(batch, 10));
+    }
+
+    @Test
+    void rejectsWhenFullAndAcceptsAgainAfterDrain() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) assertTrue(buffer.offer(i));
+        assertFalse(buffer.offer(4));
+
+        List<Integer> batch = new ArrayList<>();
+        buffer.drainTo(batch, 1);
+        assertTrue(buffer.offer(5));
+        assertFalse(buffer.offer(6));
+
+        batch.clear();
+        buffer.drainTo(batch, 10);
+        assertEquals(List.of(1, 2, 3, 5), batch);
+    }
+
+    @Test
+    void wrapsAroundManyTimes() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> batch = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(buffer.offer(i));
+            if (i % 3 == 2) buffer.drainTo(batch, 10);
+        }
+        buffer.drainTo(batch, 10);
+
+        assertEquals(1000, batch.size());
+        for (int i = 0; i < 1000; i++) assertEquals(i, batch.get(i));
+    }
+
+    @Test
+    void concurrentProducersLoseNothingExceptRejected() throws InterruptedException {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        if (!buffer.offer(base + i)) rejected.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            producer.start();
+        }
+
+        //소비자는 이 스레드 하나
+        List<Integer> batch = new ArrayList<>();
+        start.countDown();
+        while (done.getCount() > 0) buffer.drainTo(batch, 256);
+        while (buffer.drainTo(batch, 256) > 0) {
+        }
+
+        Set<Integer> unique = new HashSet<>(batch);
+        assertEquals(batch.size(), unique.size(), "duplicated entries");
+        assertEquals(producers * perProducer, batch.size() + rejected.get());
+
+        //생산자별로는 넣은 순서 유지
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        for (int value : batch) {
+            int producer = value / perProducer;
+            assertTrue(value > last[producer], "out of order for producer " + producer);
+            last[producer] = value;
+        }
+    }
+}
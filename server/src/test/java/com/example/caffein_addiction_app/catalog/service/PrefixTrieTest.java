@@ -0,0 +1,79 @@
+package com.example.caffein_addiction_app.catalog.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrefixTrieTest {
+
+    @Test
+    void findsItemsByPrefix() {
+        PrefixTrie trie = new PrefixTrie.Builder(10)
+                .add("americano", 0)
+                .add("latte", 1)
+                .add("lemonade", 2)
+                .build();
+
+        assertArrayEquals(new int[]{1, 2}, trie.search("l", 10));
+        assertArrayEquals(new int[]{1}, trie.search("la", 10));
+        assertArrayEquals(new int[]{0}, trie.search("americano", 10));
+    }
+
+    @Test
+    void missingOrEmptyPrefixReturnsNothing() {
+        PrefixTrie trie = new PrefixTrie.Builder(10).add("latte", 0).build();
+
+        assertArrayEquals(new int[0], trie.search("", 10));
+        assertArrayEquals(new int[0], trie.search("mocha", 10));
+        assertArrayEquals(new int[0], trie.search("lattes", 10));
+    }
+
+    @Test
+    void shorterKeyRanksFirstThenItemIndex() {
+        PrefixTrie trie = new PrefixTrie.Builder(10)
+                .add("cold brew", 0)
+                .add("cola", 1)
+                .add("col", 2)
+                .add("cola", 3)
+                .build();
+
+        //col(3) < cola(4) = cola(4) < cold brew(9)
+        assertArrayEquals(new int[]{2, 1, 3, 0}, trie.search("co", 10));
+    }
+
+    @Test
+    void itemWithSeveralKeysIsListedOnceWithBestRank() {
+        //같은 항목을 이름과 브랜드 등 여러 key로 등록
+        PrefixTrie trie = new PrefixTrie.Builder(10)
+                .add("mocha latte", 0)
+                .add("mo", 0)
+                .add("mocha", 1)
+                .build();
+
+        assertArrayEquals(new int[]{0, 1}, trie.search("mo", 10));
+        assertArrayEquals(new int[]{1, 0}, trie.search("moc", 10));
+    }
+
+    @Test
+    void resultsAreCappedAtMaxResultsAndLimit() {
+        PrefixTrie.Builder builder = new PrefixTrie.Builder(3);
+        for (int i = 0; i < 10; i++) builder.add("tea " + i, i);
+        PrefixTrie trie = builder.build();
+
+        assertArrayEquals(new int[]{0, 1, 2}, trie.search("tea", 10));
+        assertArrayEquals(new int[]{0, 1}, trie.search("tea", 2));
+        assertArrayEquals(new int[]{7}, trie.search("tea 7", 10));
+    }
+
+    @Test
+    void sharesNodesForCommonPrefixes() {
+        PrefixTrie trie = new PrefixTrie.Builder(10)
+                .add("ab", 0)
+                .add("ac", 1)
+                .build();
+
+        //root, a, b, c
+        assertEquals(4, trie.nodeCount());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.caffein_addiction_app.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        assertFalse(filter.mightContain(1, 2));
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void neverReturnsFalseNegative() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(1);
+        long[][] keys = new long[10_000][];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new long[]{random.nextLong(), random.nextLong()};
+            filter.put(keys[i][0], keys[i][1]);
+        }
+
+        for (long[] key : keys) assertTrue(filter.mightContain(key[0], key[1]));
+        assertEquals(keys.length, filter.getInsertions());
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < 10_000; i++) filter.put(random.nextLong(), random.nextLong());
+
+        int falsePositives = 0;
+        int lookups = 100_000;
+        for (int i = 0; i < lookups; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) falsePositives++;
+        }
+
+        double observed = (double) falsePositives / lookups;
+        assertTrue(observed < 0.02, "observed false positive rate " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    void sizesBitsAndHashesFromTarget() {
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        //n = 1e6, p = 0.01 -> m = 9,585,059 bits를 64비트 단위로 올림, k ≈ 7
+        assertEquals(9_585_088L, filter.getBitCount());
+        assertEquals(7, filter.getHashCount());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.caffein_addiction_app.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecayingAccumulatorMapTest {
+
+    private static final long HALF_LIFE = 1000;
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void valueHalvesEveryHalfLife() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+        map.put(1, 100, 0, 0);
+
+        assertEquals(100, map.valueAt(1, 0, Long.MIN_VALUE), DELTA);
+        assertEquals(50, map.valueAt(1, HALF_LIFE, Long.MIN_VALUE), DELTA);
+        assertEquals(25, map.valueAt(1, 2 * HALF_LIFE, Long.MIN_VALUE), DELTA);
+    }
+
+    @Test
+    void missingOrStaleKeyIsNaN() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+        map.put(1, 100, 0, 500);
+
+        assertTrue(Double.isNaN(map.valueAt(2, 0, Long.MIN_VALUE)));
+        assertTrue(Double.isNaN(map.valueAt(1, 0, 501)));
+        assertEquals(100, map.valueAt(1, 0, 500), DELTA);
+    }
+
+    @Test
+    void addOnlyUpdatesExistingKey() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+
+        assertFalse(map.add(1, 0, 100));
+        assertEquals(0, map.size());
+
+        map.put(1, 100, 0, 0);
+        assertTrue(map.add(1, HALF_LIFE, 100));
+        assertEquals(150, map.valueAt(1, HALF_LIFE, Long.MIN_VALUE), DELTA);
+    }
+
+    @Test
+    void addInPastDecaysToReferenceTime() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+        map.put(1, 100, 2 * HALF_LIFE, 0);
+
+        //기준 시각보다 한 반감기 전 기록 -> 절반만 더해짐, 기준 시각은 그대로
+        assertTrue(map.add(1, HALF_LIFE, 100));
+        assertEquals(150, map.valueAt(1, 2 * HALF_LIFE, Long.MIN_VALUE), DELTA);
+        assertEquals(75, map.valueAt(1, 3 * HALF_LIFE, Long.MIN_VALUE), DELTA);
+    }
+
+    @Test
+    void negativeAddRemovesPreviousAmount() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+        map.put(1, 0, 0, 0);
+
+        map.add(1, 0, 200);
+        map.add(1, 0, -200);
+
+        assertEquals(0, map.valueAt(1, HALF_LIFE, Long.MIN_VALUE), DELTA);
+    }
+
+    @Test
+    void putIfReplacesOnlyWhenConditionHolds() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+        map.put(1, 100, 0, 0);
+
+        assertFalse(map.putIf(1, 10, 0, 0, () -> false));
+        assertEquals(100, map.valueAt(1, 0, Long.MIN_VALUE), DELTA);
+
+        assertTrue(map.putIf(1, 10, 0, 0, () -> true));
+        assertEquals(10, map.valueAt(1, 0, Long.MIN_VALUE), DELTA);
+
+        assertFalse(map.putIf(2, 10, 0, 0, () -> false));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 2, 16);
+
+        for (int key = -5000; key < 5000; key++) map.put(key, key + 10_000, 0, 0);
+
+        assertEquals(10_000, map.size());
+        for (int key = -5000; key < 5000; key++) assertEquals(key + 10_000, map.valueAt(key, 0, Long.MIN_VALUE), DELTA);
+    }
+
+    @Test
+    void purgeDropsDecayedAndStaleEntriesOnly() {
+        DecayingAccumulatorMap map = new DecayingAccumulatorMap(HALF_LIFE, 4, 16);
+        map.put(1, 1, 0, 1000);
+        map.put(2, 1000, 0, 1000);
+        map.put(3, 1000, 0, 0);
+
+        //10 반감기 후: 1 -> 약 0.001, 1000 -> 약 0.98
+        int removed = map.purge(10 * HALF_LIFE, 0.1, 500);
+
+        assertEquals(2, removed);
+        assertEquals(1, map.size());
+        assertTrue(Double.isNaN(map.valueAt(1, 10 * HALF_LIFE, Long.MIN_VALUE)));
+        assertFalse(Double.isNaN(map.valueAt(2, 10 * HALF_LIFE, Long.MIN_VALUE)));
+        assertTrue(Double.isNaN(map.valueAt(3, 10 * HALF_LIFE, Long.MIN_VALUE)));
+
+        //제거 후에도 probing 순서가 깨지지 않음
+        map.put(4, 10, 0, 0);
+        assertEquals(10, map.valueAt(4, 0, Long.MIN_VALUE), DELTA);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.caffein_addiction_app.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulJamoTest {
+
+    @Test
+    void splitsSyllablesIntoCompatibilityJamo() {
+        assertEquals("ㄱㅏ", HangulJamo.normalize("가"));
+        assertEquals("ㅎㅣㅎ", HangulJamo.normalize("힣"));
+        assertEquals("ㅋㅓㅍㅣ", HangulJamo.normalize("커피"));
+    }
+
+    @Test
+    void splitsCompoundVowelsAndFinals() {
+        assertEquals("ㄱㅗㅏ", HangulJamo.normalize("과"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.normalize("닭"));
+        assertEquals("ㄱㅏㅂㅅ", HangulJamo.normalize("값"));
+    }
+
+    @Test
+    void standaloneJamoMatchesSyllableParts() {
+        assertEquals("ㄱㅅ", HangulJamo.normalize("ㄳ"));
+        assertEquals("ㅗㅏ", HangulJamo.normalize("ㅘ"));
+        assertEquals("ㄱㅏ", HangulJamo.normalize("ㄱㅏ"));
+    }
+
+    @Test
+    void unfinishedInputIsPrefixOfFinishedWord() {
+        assertTrue(HangulJamo.normalize("스타벅스").startsWith(HangulJamo.normalize("스타벅ㅅ")));
+        assertTrue(HangulJamo.normalize("닭").startsWith(HangulJamo.normalize("달")));
+        assertTrue(HangulJamo.normalize("과일").startsWith(HangulJamo.normalize("고")));
+    }
+
+    @Test
+    void lowercasesAndCollapsesWhitespace() {
+        assertEquals("star bucks", HangulJamo.normalize("  Star   Bucks \t"));
+        assertEquals("ㅋㅏㅍㅔ latte-2", HangulJamo.normalize("카페\nLATTE-2"));
+        assertEquals("", HangulJamo.normalize("   "));
+    }
+}
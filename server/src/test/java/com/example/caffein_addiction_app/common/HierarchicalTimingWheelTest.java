@@ -0,0 +1,197 @@
+package com.example.caffein_addiction_app.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    //key별 만료 시점(advance에 넘긴 시각)을 기록
+    private final List<long[]> fired = new ArrayList<>();
+    private long now;
+
+    @Test
+    void firesInTickContainingDueTime() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 0);
+        wheel.schedule(1, 5 * TICK);
+        wheel.schedule(2, 5 * TICK + 999);
+
+        advanceTo(wheel, 5 * TICK - 1);
+        assertEquals(0, fired.size());
+
+        //같은 tick 안의 순서는 정하지 않음
+        advanceTo(wheel, 5 * TICK);
+        assertEquals(2, fired.size());
+        assertEquals(3, fired.get(0)[0] + fired.get(1)[0]);
+        assertEquals(5 * TICK, fired.get(0)[1]);
+        assertEquals(5 * TICK, fired.get(1)[1]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDueTimeFiresOnNextTick() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 10 * TICK);
+        wheel.schedule(1, 0);
+
+        advanceTo(wheel, 10 * TICK + 999);
+        assertEquals(0, fired.size());
+
+        advanceTo(wheel, 11 * TICK);
+        assertFired(1, 11 * TICK, 0);
+    }
+
+    @Test
+    void cascadesExactlyAtLevelBlockStarts() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 3, 0);
+        long[] dueTicks = {63, 64, 65, 127, 128, 130, 64 * 64 - 1, 64 * 64, 64 * 64 + 5, 2 * 64 * 64 + 64 + 1};
+        for (int key = 0; key < dueTicks.length; key++) wheel.schedule(key, dueTicks[key] * TICK);
+
+        //한 tick씩 진행 -> 각 timer가 정확히 자기 tick에 만료
+        for (long tick = 1; tick <= dueTicks[dueTicks.length - 1]; tick++) advanceTo(wheel, tick * TICK);
+
+        assertEquals(dueTicks.length, fired.size());
+        for (int key = 0; key < dueTicks.length; key++) assertFired(key, dueTicks[key] * TICK, key);
+    }
+
+    @Test
+    void largeJumpFiresEverythingInDueOrder() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 3, 0);
+        wheel.schedule(1, 5000 * TICK);
+        wheel.schedule(2, 70 * TICK);
+        wheel.schedule(3, 3 * TICK);
+
+        assertEquals(3, wheel.advance(6000 * TICK, (key, due) -> fired.add(new long[]{key, due})));
+
+        assertEquals(3, fired.get(0)[0]);
+        assertEquals(2, fired.get(1)[0]);
+        assertEquals(1, fired.get(2)[0]);
+    }
+
+    @Test
+    void outOfRangeTimerIsReplacedUntilDue() {
+        //2 level = 64 * 64 tick 범위, 그 밖의 timer는 최상위 칸에서 내려올 때마다 다시 계산
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 0);
+        wheel.schedule(1, 10_000 * TICK);
+        wheel.schedule(2, 3 * 64 * 64 * TICK + 17 * TICK);
+
+        advanceTo(wheel, 9_999 * TICK);
+        assertEquals(0, fired.size());
+        assertEquals(2, wheel.size());
+
+        advanceTo(wheel, 10_000 * TICK);
+        assertFired(1, 10_000 * TICK, 0);
+
+        advanceTo(wheel, 3 * 64 * 64 * TICK + 16 * TICK);
+        assertEquals(1, fired.size());
+
+        advanceTo(wheel, 3 * 64 * 64 * TICK + 17 * TICK);
+        assertFired(2, 3 * 64 * 64 * TICK + 17 * TICK, 1);
+    }
+
+    @Test
+    void scheduleReplacesAndCancelRemoves() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 0);
+
+        assertFalse(wheel.schedule(1, 10 * TICK));
+        assertTrue(wheel.schedule(1, 200 * TICK));
+        assertEquals(200 * TICK, wheel.dueMillis(1));
+        wheel.schedule(2, 20 * TICK);
+        assertTrue(wheel.cancel(2));
+        assertFalse(wheel.cancel(2));
+        assertEquals(-1, wheel.dueMillis(2));
+
+        advanceTo(wheel, 199 * TICK);
+        assertEquals(0, fired.size());
+
+        advanceTo(wheel, 200 * TICK);
+        assertFired(1, 200 * TICK, 0);
+        assertEquals(1, fired.size());
+    }
+
+    @Test
+    void handlerCanRescheduleItsOwnKey() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 0);
+        wheel.schedule(1, 10 * TICK);
+
+        //만료될 때마다 10 tick 뒤로 다시 등록
+        HierarchicalTimingWheel.ExpiryHandler handler = (key, due) -> {
+            fired.add(new long[]{key, now});
+            if (fired.size() < 3) wheel.schedule(key, due + 10 * TICK);
+        };
+        for (now = TICK; now <= 100 * TICK; now += TICK) wheel.advance(now, handler);
+
+        assertEquals(3, fired.size());
+        assertFired(1, 10 * TICK, 0);
+        assertFired(1, 20 * TICK, 1);
+        assertFired(1, 30 * TICK, 2);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void handlerCanCancelOrReplaceTimerDueInSameTick() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 0);
+        wheel.schedule(1, 5 * TICK);
+        wheel.schedule(2, 5 * TICK);
+        wheel.schedule(3, 5 * TICK);
+
+        //먼저 호출된 handler가 나머지 둘 중 하나는 취소, 하나는 뒤로 미룸
+        List<Integer> order = new ArrayList<>();
+        HierarchicalTimingWheel.ExpiryHandler handler = (key, due) -> {
+            if (order.isEmpty()) {
+                int[] others = key == 1 ? new int[]{2, 3} : key == 2 ? new int[]{1, 3} : new int[]{1, 2};
+                assertTrue(wheel.cancel(others[0]));
+                assertTrue(wheel.schedule(others[1], 8 * TICK));
+            }
+            order.add(key);
+            fired.add(new long[]{key, now});
+        };
+
+        for (now = TICK; now <= 10 * TICK; now += TICK) wheel.advance(now, handler);
+
+        assertEquals(2, fired.size());
+        assertEquals(5 * TICK, fired.get(0)[1]);
+        assertEquals(8 * TICK, fired.get(1)[1]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void failingHandlerLeavesRemainingTimersForNextTick() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 2, 0);
+        wheel.schedule(1, 5 * TICK);
+        wheel.schedule(2, 5 * TICK);
+
+        assertThrows(IllegalStateException.class, () -> wheel.advance(5 * TICK, (key, due) -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, wheel.size());
+
+        advanceTo(wheel, 6 * TICK);
+        assertEquals(1, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel(0, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel(TICK, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel(TICK, 11, 0));
+    }
+
+    private void advanceTo(HierarchicalTimingWheel wheel, long nowMillis) {
+        now = nowMillis;
+        wheel.advance(nowMillis, (key, due) -> fired.add(new long[]{key, now}));
+    }
+
+    private void assertFired(int key, long atMillis, int index) {
+        assertEquals(key, fired.get(index)[0]);
+        assertEquals(atMillis, fired.get(index)[1]);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+//redis 없이 로컬 누적값만 사용하는 기본 설정
+class CaffeineLevelEngineTest {
+
+    private static final Integer USER_ID = 7;
+    //감쇠 오차 허용 (테스트 실행 시간 동안 줄어드는 양)
+    private static final double DELTA = 0.5;
+
+    private IntakeRepository intakeRepository;
+    private CaffeineLevelEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        intakeRepository = mock(IntakeRepository.class);
+        engine = new CaffeineLevelEngine(intakeRepository, mock(StringRedisTemplate.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(engine, "bootstrapHours", 48L);
+        ReflectionTestUtils.setField(engine, "redisEnabled", false);
+    }
+
+    @Test
+    void refreshReplacesLocalLevelWithDatabaseState() {
+        when(intakeRepository.findByUserIdAndConsumedAtGreaterThanEqual(eq(USER_ID), any()))
+                .thenReturn(List.of(intake(100)))
+                .thenReturn(List.of(intake(100), intake(200)));
+
+        assertEquals(100, engine.currentLevel(USER_ID), DELTA);
+
+        //다른 인스턴스가 200을 기록 -> refresh가 로컬 값을 덮어씀
+        assertEquals(300, engine.refresh(USER_ID), DELTA);
+        assertEquals(300, engine.currentLevel(USER_ID), DELTA);
+    }
+
+    @Test
+    void bootstrapRereadsWhenAddRunsDuringDatabaseRead() {
+        AtomicInteger reads = new AtomicInteger();
+
+        //첫 번째 읽기는 commit 전 상태 (200 없음), 읽는 사이 200이 commit되고 add 호출
+        when(intakeRepository.findByUserIdAndConsumedAtGreaterThanEqual(eq(USER_ID), any())).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                engine.add(USER_ID, Instant.now(), 200);
+                return List.of(intake(100));
+            }
+            return List.of(intake(100), intake(200));
+        });
+
+        //옛 읽기(100)는 설치되지 않고, add가 부른 bootstrap과 재시도 모두 200을 포함
+        assertEquals(300, engine.currentLevel(USER_ID), DELTA);
+        assertEquals(300, engine.currentLevel(USER_ID), DELTA);
+        verify(intakeRepository, times(3)).findByUserIdAndConsumedAtGreaterThanEqual(eq(USER_ID), any());
+    }
+
+    @Test
+    void addAppliesToInstalledLevel() {
+        when(intakeRepository.findByUserIdAndConsumedAtGreaterThanEqual(eq(USER_ID), any()))
+                .thenReturn(List.of(intake(100)));
+
+        assertEquals(100, engine.currentLevel(USER_ID), DELTA);
+
+        engine.add(USER_ID, Instant.now(), 50);
+        engine.add(USER_ID, Instant.now(), -20);
+
+        assertEquals(130, engine.currentLevel(USER_ID), DELTA);
+        verify(intakeRepository, times(1)).findByUserIdAndConsumedAtGreaterThanEqual(eq(USER_ID), any());
+    }
+
+    private static Intake intake(int caffeineAmount) {
+        Intake intake = new Intake();
+        ReflectionTestUtils.setField(intake, "userId", USER_ID);
+        ReflectionTestUtils.setField(intake, "consumedAt", Instant.now());
+        ReflectionTestUtils.setField(intake, "caffeineAmount", caffeineAmount);
+        return intake;
+    }
+}
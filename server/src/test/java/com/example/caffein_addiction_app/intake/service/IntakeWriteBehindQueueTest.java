@@ -0,0 +1,241 @@
+package com.example.caffein_addiction_app.intake.service;
+
+import com.example.caffein_addiction_app.intake.dto.request.RecordIntakeRequestDto;
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import com.example.caffein_addiction_app.sync.service.IntakeChangeLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IntakeWriteBehindQueueTest {
+
+    private final Map<String, Intake> committed = new ConcurrentHashMap<>();
+    private final List<Integer> attemptedBatchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    //첫 트랜잭션을 붙잡아 두고 그동안 쌓인 기록이 한 batch로 나가게 함
+    private final CountDownLatch firstFlushStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final IntakeDerivedStateUpdater derivedStateUpdater = mock(IntakeDerivedStateUpdater.class);
+    private IntakeWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        IntakeRepository intakeRepository = mock(IntakeRepository.class);
+
+        //JPA처럼 동작: persist 때 id 발급 -> flush 때 제약 위반이면 batch 전체 rollback (발급된 id는 entity에 남음)
+        //id가 이미 있는 entity는 merge가 되고, 행이 없으므로 실패
+        when(intakeRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Intake> intakes = new ArrayList<>();
+            invocation.<Iterable<Intake>>getArgument(0).forEach(intakes::add);
+            attemptedBatchSizes.add(intakes.size());
+
+            for (Intake intake : intakes) {
+                if (intake.getId() != null) throw new ObjectOptimisticLockingFailureException(Intake.class, intake.getId());
+                ReflectionTestUtils.setField(intake, "id", sequence.incrementAndGet());
+            }
+
+            Set<String> keys = new HashSet<>();
+            for (Intake intake : intakes) {
+                if (intake.getCaffeineAmount() < 0) throw new DataIntegrityViolationException("chk_intakes_caffeine_amount");
+                if (committed.containsKey(keyOf(intake)) || !keys.add(keyOf(intake))) {
+                    throw new DataIntegrityViolationException("uk_intakes_user_client_id");
+                }
+            }
+
+            for (Intake intake : intakes) committed.put(keyOf(intake), intake);
+            return intakes;
+        });
+
+        when(intakeRepository.findByUserIdAndClientIdIn(anyInt(), anyCollection())).thenAnswer(invocation -> {
+            Integer userId = invocation.getArgument(0);
+            Collection<String> clientIds = invocation.getArgument(1);
+            List<Intake> found = new ArrayList<>();
+            for (String clientId : clientIds) {
+                Intake intake = committed.get(userId + ":" + clientId);
+                if (intake != null) found.add(intake);
+            }
+            return found;
+        });
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            if (firstFlushStarted.getCount() > 0) {
+                firstFlushStarted.countDown();
+                releaseFirstFlush.await(5, TimeUnit.SECONDS);
+            }
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        queue = new IntakeWriteBehindQueue(intakeRepository, mock(DailyRollupWriter.class), mock(IntakeChangeLog.class),
+                transactionTemplate, derivedStateUpdater, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(queue, "queueCapacity", 100);
+        ReflectionTestUtils.setField(queue, "batchSize", 200);
+        ReflectionTestUtils.setField(queue, "ackTimeoutMillis", 5000L);
+        queue.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseFirstFlush.countDown();
+        queue.shutdown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void badRowDoesNotFailOtherRowsInBatch() throws Exception {
+        Future<IntakeWriteBehindQueue.Saved> gate = submit(intake("gate", 10));
+        assertTrue(firstFlushStarted.await(5, TimeUnit.SECONDS));
+
+        Intake good1 = intake("good-1", 100);
+        Intake bad = intake("bad", -1);
+        Intake good2 = intake("good-2", 200);
+        Future<IntakeWriteBehindQueue.Saved> first = submit(good1);
+        Future<IntakeWriteBehindQueue.Saved> failed = submit(bad);
+        Future<IntakeWriteBehindQueue.Saved> second = submit(good2);
+        awaitQueued(3);
+        releaseFirstFlush.countDown();
+
+        assertTrue(gate.get(5, TimeUnit.SECONDS).created());
+
+        //호출자가 가진 객체가 그대로 저장되고 id를 받음
+        IntakeWriteBehindQueue.Saved saved1 = first.get(5, TimeUnit.SECONDS);
+        IntakeWriteBehindQueue.Saved saved2 = second.get(5, TimeUnit.SECONDS);
+        assertTrue(saved1.created());
+        assertTrue(saved2.created());
+        assertEquals(good1, saved1.intake());
+        assertEquals(good2, saved2.intake());
+        assertNotNull(good1.getId());
+        assertNotNull(good2.getId());
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+
+        //3개 batch 한 번 실패 후 하나씩 재시도
+        assertTrue(attemptedBatchSizes.contains(3));
+        assertEquals(3, committed.size());
+    }
+
+    @Test
+    void retryWithSameClientIdReturnsExistingIntake() throws Exception {
+        releaseFirstFlush.countDown();
+
+        IntakeWriteBehindQueue.Saved first = queue.save(intake("same", 150));
+        IntakeWriteBehindQueue.Saved retried = queue.save(intake("same", 150));
+
+        assertTrue(first.created());
+        assertFalse(retried.created());
+        assertEquals(first.intake().getId(), retried.intake().getId());
+        assertEquals(1, committed.size());
+
+        //결과를 받은 호출 쪽이 반영 -> flusher는 반영하지 않음
+        verify(derivedStateUpdater, never()).apply(any(), anyInt());
+    }
+
+    @Test
+    void flusherAppliesDerivedStateWhenCallerTimedOut() throws Exception {
+        ReflectionTestUtils.setField(queue, "ackTimeoutMillis", 50L);
+        Intake late = intake("late", 120);
+
+        //첫 트랜잭션이 붙잡혀 있는 동안 timeout -> 503, 저장은 그 뒤에 commit
+        assertThrows(RejectedExecutionException.class, () -> queue.save(late));
+        verify(derivedStateUpdater, never()).apply(any(), anyInt());
+
+        releaseFirstFlush.countDown();
+        verify(derivedStateUpdater, timeout(5000)).apply(late, 1);
+
+        //같은 clientId로 재시도 -> 기존 기록, 반영은 한 번만
+        ReflectionTestUtils.setField(queue, "ackTimeoutMillis", 5000L);
+        IntakeWriteBehindQueue.Saved retried = queue.save(intake("late", 120));
+        assertFalse(retried.created());
+        assertEquals(late.getId(), retried.intake().getId());
+        verify(derivedStateUpdater, times(1)).apply(any(), anyInt());
+    }
+
+    @Test
+    void duplicateClientIdInSameBatchIsSavedOnce() throws Exception {
+        Future<IntakeWriteBehindQueue.Saved> gate = submit(intake("gate", 10));
+        assertTrue(firstFlushStarted.await(5, TimeUnit.SECONDS));
+
+        Future<IntakeWriteBehindQueue.Saved> first = submit(intake("twice", 80));
+        Future<IntakeWriteBehindQueue.Saved> second = submit(intake("twice", 80));
+        awaitQueued(2);
+        releaseFirstFlush.countDown();
+
+        gate.get(5, TimeUnit.SECONDS);
+        IntakeWriteBehindQueue.Saved saved1 = first.get(5, TimeUnit.SECONDS);
+        IntakeWriteBehindQueue.Saved saved2 = second.get(5, TimeUnit.SECONDS);
+
+        assertTrue(saved1.created() != saved2.created());
+        assertEquals(saved1.intake().getId(), saved2.intake().getId());
+        assertEquals(2, committed.size());
+    }
+
+    private Future<IntakeWriteBehindQueue.Saved> submit(Intake intake) {
+        return callers.submit(() -> queue.save(intake));
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.getQueueSize() < count && System.nanoTime() < deadline) Thread.sleep(5);
+        assertEquals(count, queue.getQueueSize());
+    }
+
+    private static Intake intake(String clientId, int caffeineAmount) {
+        RecordIntakeRequestDto dto = new RecordIntakeRequestDto();
+        dto.setClientId(clientId);
+        dto.setCategory("coffee");
+        dto.setItem("americano");
+        dto.setCaffeineAmount(caffeineAmount);
+        return new Intake(1, dto);
+    }
+
+    private static String keyOf(Intake intake) {
+        return intake.getUserId() + ":" + intake.getClientId();
+    }
+}
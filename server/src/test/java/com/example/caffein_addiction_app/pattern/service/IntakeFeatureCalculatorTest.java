@@ -0,0 +1,137 @@
+package com.example.caffein_addiction_app.pattern.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntakeFeatureCalculatorTest {
+
+    private static final double DELTA = 1e-9;
+    //0~4 평일, 5~6 주말
+    private static final boolean[] WEEK = {false, false, false, false, false, true, true};
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void computesFeaturesForOneUser() {
+        IntakeFeatureCalculator.ChunkBuilder builder = new IntakeFeatureCalculator.ChunkBuilder(new int[]{10});
+        builder.add(10, 0, 8 * 60, 100);
+        builder.add(10, 0, 16 * 60, 50);
+        builder.add(10, 1, 9 * 60, 200);
+        builder.add(10, 5, 10 * 60, 70);
+
+        IntakeFeatureCalculator.Features features = new IntakeFeatureCalculator(WEEK, 15).compute(pool, builder.build());
+
+        assertEquals(3, features.activeDays[0]);
+        //첫 섭취 480, 540, 600분의 중앙값
+        assertEquals(9 * 60, features.typicalFirstMinute[0]);
+        assertEquals((150 + 200) / 5.0, features.weekdayDailyAvg[0], DELTA);
+        assertEquals(70 / 2.0, features.weekendDailyAvg[0], DELTA);
+        //15시 이후 섭취가 있던 날 하나
+        assertEquals(1 / 7.0, features.lateIntakeRate[0], DELTA);
+        //일별 합계 [150, 200, 0, 0, 0, 70, 0]: sum((d - 3) * y) / sum((d - 3)^2) = -710 / 28
+        assertEquals(-710 / 28.0, features.dailyTrend[0], DELTA);
+    }
+
+    @Test
+    void medianOfEvenCountAveragesMiddleValues() {
+        IntakeFeatureCalculator.ChunkBuilder builder = new IntakeFeatureCalculator.ChunkBuilder(new int[]{1});
+        builder.add(1, 2, 7 * 60, 100);
+        builder.add(1, 3, 9 * 60, 100);
+
+        IntakeFeatureCalculator.Features features = new IntakeFeatureCalculator(WEEK, 15).compute(pool, builder.build());
+
+        assertEquals(8 * 60, features.typicalFirstMinute[0]);
+    }
+
+    @Test
+    void steadyIncreaseGivesPositiveTrend() {
+        IntakeFeatureCalculator.ChunkBuilder builder = new IntakeFeatureCalculator.ChunkBuilder(new int[]{1});
+        for (int d = 0; d < WEEK.length; d++) builder.add(1, d, 9 * 60, 100 + 10 * d);
+
+        IntakeFeatureCalculator.Features features = new IntakeFeatureCalculator(WEEK, 15).compute(pool, builder.build());
+
+        assertEquals(10, features.dailyTrend[0], DELTA);
+        assertEquals(7, features.activeDays[0]);
+        assertEquals(0, features.lateIntakeRate[0], DELTA);
+    }
+
+    @Test
+    void builderSkipsRowsOfOtherUsersAndKeepsEmptyUsers() {
+        IntakeFeatureCalculator.ChunkBuilder builder = new IntakeFeatureCalculator.ChunkBuilder(new int[]{2, 5, 9});
+        builder.add(1, 0, 600, 999);
+        builder.add(2, 0, 600, 100);
+        builder.add(3, 0, 600, 999);
+        builder.add(9, 1, 700, 50);
+        builder.add(9, 2, 800, 50);
+        builder.add(12, 0, 600, 999);
+
+        IntakeFeatureCalculator.Chunk chunk = builder.build();
+        assertArrayEquals(new int[]{0, 1, 1, 3}, chunk.userStart);
+
+        IntakeFeatureCalculator.Features features = new IntakeFeatureCalculator(WEEK, 15).compute(pool, chunk);
+
+        assertEquals(100 / 5.0, features.weekdayDailyAvg[0], DELTA);
+        assertEquals(0, features.activeDays[1]);
+        assertEquals(-1, features.typicalFirstMinute[1]);
+        assertEquals(0, features.weekdayDailyAvg[1], DELTA);
+        assertEquals(0, features.dailyTrend[1], DELTA);
+        assertEquals(2, features.activeDays[2]);
+    }
+
+    @Test
+    void forkJoinSplitMatchesPerUserComputation() {
+        boolean[] weekend = new boolean[28];
+        for (int d = 0; d < weekend.length; d++) weekend[d] = d % 7 >= 5;
+        IntakeFeatureCalculator calculator = new IntakeFeatureCalculator(weekend, 15);
+
+        int users = 1000;
+        int[] userIds = new int[users];
+        for (int i = 0; i < users; i++) userIds[i] = i * 3 + 1;
+
+        //사용자별 기록을 미리 만들어 chunk 전체와 사용자 하나짜리 chunk에 같은 순서로 넣음
+        SplittableRandom random = new SplittableRandom(42);
+        int[][][] rows = new int[users][][];
+        IntakeFeatureCalculator.ChunkBuilder all = new IntakeFeatureCalculator.ChunkBuilder(userIds);
+        for (int i = 0; i < users; i++) {
+            int count = random.nextInt(0, 40);
+            rows[i] = new int[count][];
+            int day = 0;
+            int minute = 0;
+            for (int r = 0; r < count; r++) {
+                if (random.nextInt(3) == 0) {
+                    day = Math.min(weekend.length - 1, day + random.nextInt(1, 3));
+                    minute = 0;
+                }
+                minute = Math.min(1439, minute + random.nextInt(0, 240));
+                rows[i][r] = new int[]{day, minute, random.nextInt(0, 400)};
+                all.add(userIds[i], day, minute, rows[i][r][2]);
+            }
+        }
+
+        IntakeFeatureCalculator.Features features = calculator.compute(pool, all.build());
+
+        for (int i = 0; i < users; i++) {
+            IntakeFeatureCalculator.ChunkBuilder single = new IntakeFeatureCalculator.ChunkBuilder(new int[]{userIds[i]});
+            for (int[] row : rows[i]) single.add(userIds[i], row[0], row[1], row[2]);
+            IntakeFeatureCalculator.Features expected = calculator.compute(pool, single.build());
+
+            assertEquals(expected.activeDays[0], features.activeDays[i]);
+            assertEquals(expected.typicalFirstMinute[0], features.typicalFirstMinute[i]);
+            assertEquals(expected.weekdayDailyAvg[0], features.weekdayDailyAvg[i], DELTA);
+            assertEquals(expected.weekendDailyAvg[0], features.weekendDailyAvg[i], DELTA);
+            assertEquals(expected.lateIntakeRate[0], features.lateIntakeRate[i], DELTA);
+            assertEquals(expected.dailyTrend[0], features.dailyTrend[i], DELTA);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.caffein_addiction_app.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedTokenBucketTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        StripedTokenBucket bucket = new StripedTokenBucket(64, 5, HOUR);
+
+        for (int remaining = 4; remaining >= 0; remaining--) assertEquals(remaining, bucket.tryAcquire(42));
+        assertEquals(-1, bucket.tryAcquire(42));
+        assertEquals(-1, bucket.tryAcquire(42));
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        StripedTokenBucket bucket = new StripedTokenBucket(64, 2, TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertTrue(bucket.tryAcquire(7) >= 0);
+        assertTrue(bucket.tryAcquire(7) >= 0);
+        assertEquals(-1, bucket.tryAcquire(7));
+
+        //토큰 하나 = 50ms
+        Thread.sleep(120);
+        assertTrue(bucket.tryAcquire(7) >= 0);
+    }
+
+    @Test
+    void keysInDifferentSlotsAreIndependent() {
+        StripedTokenBucket bucket = new StripedTokenBucket(1024, 1, HOUR);
+
+        assertEquals(0, bucket.tryAcquire(1));
+        assertEquals(-1, bucket.tryAcquire(1));
+
+        //1과 다른 slot에 들어가는 key를 찾아 확인
+        int other = 2;
+        while (bucket.tryAcquire(other) < 0) other++;
+        assertEquals(-1, bucket.tryAcquire(other));
+        assertEquals(-1, bucket.tryAcquire(1));
+    }
+
+    @Test
+    void rejectsAfterRejectionWithoutConsuming() {
+        StripedTokenBucket bucket = new StripedTokenBucket(64, 2, TimeUnit.MILLISECONDS.toNanos(100));
+        bucket.tryAcquire(3);
+        bucket.tryAcquire(3);
+
+        //거절된 요청은 시각을 밀지 않으므로 계속 두드려도 한 토큰 주기 후에는 다시 허용
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        boolean allowed = false;
+        while (!allowed && System.nanoTime() < deadline) allowed = bucket.tryAcquire(3) >= 0;
+        assertTrue(allowed);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws InterruptedException {
+        StripedTokenBucket bucket = new StripedTokenBucket(64, 1000, HOUR);
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryAcquire(99) >= 0) allowed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        start.countDown();
+        done.await();
+        assertEquals(1000, allowed.get());
+    }
+}
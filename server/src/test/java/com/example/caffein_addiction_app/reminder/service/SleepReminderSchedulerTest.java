@@ -0,0 +1,136 @@
+package com.example.caffein_addiction_app.reminder.service;
+
+import com.example.caffein_addiction_app.intake.service.CaffeineLevelEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SleepReminderSchedulerTest {
+
+    private static final String KEY = "reminder:sleep-safe";
+    private static final long TICK = 10;
+    private static final double SLEEP_SAFE_MG = 50;
+    private static final long HALF_LIFE_MILLIS = (long) (CaffeineLevelEngine.HALF_LIFE_HOURS * TimeUnit.HOURS.toMillis(1));
+
+    private CaffeineLevelEngine caffeineLevelEngine;
+    private LoggingReminderNotifier notifier;
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSet;
+    private SleepReminderScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        caffeineLevelEngine = mock(CaffeineLevelEngine.class);
+        notifier = spy(new LoggingReminderNotifier());
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSet = mock(ZSetOperations.class);
+
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        //claim은 항상 이 인스턴스가 성공
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(1L);
+
+        scheduler = new SleepReminderScheduler(caffeineLevelEngine, notifier, redisTemplate,
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(scheduler, "sleepSafeMg", SLEEP_SAFE_MG);
+        ReflectionTestUtils.setField(scheduler, "tickMillis", TICK);
+        ReflectionTestUtils.setField(scheduler, "maxLatenessMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void notifiesWhenLevelDropsBelowSleepSafe() {
+        scheduler.init();
+        //약 200ms 뒤에 기준 밑으로 내려가는 양
+        when(caffeineLevelEngine.refresh(7)).thenReturn(levelReachingSleepSafeIn(200));
+
+        long before = System.currentTimeMillis();
+        scheduler.reschedule(7);
+
+        ArgumentCaptor<Double> due = ArgumentCaptor.forClass(Double.class);
+        verify(zSet).add(eq(KEY), eq("7"), due.capture());
+        long dueMillis = due.getValue().longValue();
+        assertEquals(0, dueMillis % TICK);
+        assertTrue(dueMillis >= before + 200);
+
+        verify(notifier, timeout(2000)).sleepSafe(7, Instant.ofEpochMilli(dueMillis));
+        assertTrue(System.currentTimeMillis() >= dueMillis - TICK);
+    }
+
+    @Test
+    void levelAlreadyBelowSleepSafeCancelsReminder() {
+        scheduler.init();
+        when(caffeineLevelEngine.refresh(7)).thenReturn(levelReachingSleepSafeIn(300), 10.0);
+
+        scheduler.reschedule(7);
+        scheduler.reschedule(7);
+
+        verify(zSet).remove(KEY, "7");
+        verify(notifier, after(600).never()).sleepSafe(eq(7), any());
+    }
+
+    @Test
+    void reminderClaimedByAnotherInstanceIsNotDelivered() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(0L);
+        scheduler.init();
+        when(caffeineLevelEngine.refresh(7)).thenReturn(levelReachingSleepSafeIn(50));
+
+        scheduler.reschedule(7);
+
+        verify(redisTemplate, timeout(2000)).execute(any(RedisScript.class), anyList(), eq("7"), anyString());
+        verify(notifier, never()).sleepSafe(eq(7), any());
+    }
+
+    @Test
+    void recoversRemindersFromRedisAndDropsTooLateOnes() {
+        long now = System.currentTimeMillis();
+        long soon = (now + 100) / TICK * TICK;
+        long tooLate = now - 3_600_000;
+
+        Set<ZSetOperations.TypedTuple<String>> stored = new LinkedHashSet<>();
+        stored.add(new DefaultTypedTuple<>("8", (double) soon));
+        stored.add(new DefaultTypedTuple<>("9", (double) tooLate));
+        when(zSet.rangeWithScores(KEY, 0, 999)).thenReturn(stored);
+
+        scheduler.init();
+
+        verify(notifier, timeout(2000)).sleepSafe(8, Instant.ofEpochMilli(soon));
+        verify(redisTemplate, timeout(2000)).execute(any(RedisScript.class), anyList(), eq("9"), eq(String.valueOf(tooLate)));
+        verify(notifier, never()).sleepSafe(eq(9), any());
+    }
+
+    private static double levelReachingSleepSafeIn(long millis) {
+        return SLEEP_SAFE_MG * Math.pow(2, (double) millis / HALF_LIFE_MILLIS);
+    }
+}
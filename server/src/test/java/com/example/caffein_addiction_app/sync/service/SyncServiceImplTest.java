@@ -0,0 +1,317 @@
+package com.example.caffein_addiction_app.sync.service;
+
+import com.example.caffein_addiction_app.challenge.service.ChallengeScoreUpdater;
+import com.example.caffein_addiction_app.common.PreEncodedResponse;
+import com.example.caffein_addiction_app.common.ResponseStatus;
+import com.example.caffein_addiction_app.intake.entity.Intake;
+import com.example.caffein_addiction_app.intake.repository.IntakeRepository;
+import com.example.caffein_addiction_app.intake.service.CaffeineCurveCache;
+import com.example.caffein_addiction_app.intake.service.CaffeineLevelEngine;
+import com.example.caffein_addiction_app.intake.service.QuickAddFavorites;
+import com.example.caffein_addiction_app.statistics.service.DailyRollupWriter;
+import com.example.caffein_addiction_app.sync.dto.request.PushChangesRequestDto;
+import com.example.caffein_addiction_app.sync.dto.request.SyncChangeRequestDto;
+import com.example.caffein_addiction_app.sync.dto.response.PushChangesResponseDto;
+import com.example.caffein_addiction_app.sync.dto.response.SyncResultDto;
+import com.example.caffein_addiction_app.sync.entity.IntakeTombstone;
+import com.example.caffein_addiction_app.sync.repository.IntakeTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncServiceImplTest {
+
+    private static final Integer USER_ID = 7;
+    private static final long FIRST_SEQ = 100;
+    private static final Instant T1 = Instant.parse("2024-05-01T09:00:00Z");
+    private static final Instant T2 = Instant.parse("2024-05-01T10:00:00Z");
+    private static final Instant T3 = Instant.parse("2024-05-01T11:00:00Z");
+
+    private final List<Intake> stored = new ArrayList<>();
+    private final List<IntakeTombstone> tombstones = new ArrayList<>();
+
+    private IntakeRepository intakeRepository;
+    private IntakeChangeLog changeLog;
+    private TransactionTemplate transactionTemplate;
+    private SyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() {
+        intakeRepository = mock(IntakeRepository.class);
+        IntakeTombstoneRepository tombstoneRepository = mock(IntakeTombstoneRepository.class);
+        changeLog = mock(IntakeChangeLog.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+
+        when(intakeRepository.findByUserIdAndClientIdIn(eq(USER_ID), anyCollection())).thenReturn(stored);
+        when(tombstoneRepository.findByUserIdAndClientIdIn(eq(USER_ID), anyCollection())).thenReturn(tombstones);
+        when(changeLog.reserve(eq(USER_ID), anyInt())).thenReturn(FIRST_SEQ);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        syncService = new SyncServiceImpl(intakeRepository, tombstoneRepository, changeLog, mock(DailyRollupWriter.class),
+                mock(CaffeineLevelEngine.class), mock(CaffeineCurveCache.class), mock(ChallengeScoreUpdater.class),
+                mock(QuickAddFavorites.class), transactionTemplate);
+        ReflectionTestUtils.setField(syncService, "maxBatchSize", 500);
+    }
+
+    @Test
+    void newUpsertIsInserted() {
+        SyncResultDto result = pushOne(upsert("a", T1, 150));
+
+        assertEquals(SyncResultDto.APPLIED, result.getStatus());
+        assertEquals(FIRST_SEQ, result.getChangeSeq());
+
+        List<Intake> inserted = savedIntakes();
+        assertEquals(1, inserted.size());
+        assertEquals("a", inserted.get(0).getClientId());
+        assertEquals(150, inserted.get(0).getCaffeineAmount());
+    }
+
+    @Test
+    void resentUpsertWithSameModifiedAtIsDuplicate() {
+        storedIntake("a", T2, 150, 42);
+
+        SyncResultDto result = pushOne(upsert("a", T2, 150));
+
+        assertEquals(SyncResultDto.DUPLICATE, result.getStatus());
+        assertEquals(42L, result.getChangeSeq());
+        verify(changeLog, never()).reserve(USER_ID, 1);
+    }
+
+    @Test
+    void olderUpsertConflictsWithServerState() {
+        storedIntake("a", T2, 150, 42);
+
+        SyncResultDto result = pushOne(upsert("a", T1, 300));
+
+        assertEquals(SyncResultDto.CONFLICT, result.getStatus());
+        assertEquals(42L, result.getChangeSeq());
+        assertEquals(150, result.getCurrent().getCaffeineAmount());
+        assertEquals(T2, result.getCurrent().getModifiedAt());
+        assertEquals(150, stored.get(0).getCaffeineAmount());
+    }
+
+    @Test
+    void newerUpsertUpdatesRow() {
+        Intake row = storedIntake("a", T1, 150, 42);
+
+        SyncResultDto result = pushOne(upsert("a", T2, 300));
+
+        assertEquals(SyncResultDto.APPLIED, result.getStatus());
+        assertEquals(FIRST_SEQ, result.getChangeSeq());
+        assertEquals(300, row.getCaffeineAmount());
+        assertEquals(T2, row.getModifiedAt());
+        assertEquals(FIRST_SEQ, row.getChangeSeq());
+        //기존 행은 insert 대상이 아님 (dirty checking으로 update)
+        assertEquals(0, savedIntakes().size());
+    }
+
+    @Test
+    void olderDeleteConflictsWithServerState() {
+        storedIntake("a", T2, 150, 42);
+
+        SyncResultDto result = pushOne(delete("a", T1));
+
+        assertEquals(SyncResultDto.CONFLICT, result.getStatus());
+        assertEquals(150, result.getCurrent().getCaffeineAmount());
+        verify(intakeRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void deleteWinsTieWithUpsert() {
+        Intake row = storedIntake("a", T2, 150, 42);
+
+        SyncResultDto result = pushOne(delete("a", T2));
+
+        assertEquals(SyncResultDto.APPLIED, result.getStatus());
+        assertEquals(List.of(row), deletedIntakes());
+
+        List<IntakeChangeLog.Tombstone> recorded = recordedTombstones();
+        assertEquals(1, recorded.size());
+        assertEquals(new IntakeChangeLog.Tombstone("a", FIRST_SEQ, T2), recorded.get(0));
+    }
+
+    @Test
+    void deleteOfUnknownRowStillLeavesTombstone() {
+        SyncResultDto result = pushOne(delete("a", T1));
+
+        assertEquals(SyncResultDto.APPLIED, result.getStatus());
+        assertEquals(0, deletedIntakes().size());
+        assertEquals(1, recordedTombstones().size());
+    }
+
+    @Test
+    void resentDeleteIsDuplicate() {
+        tombstone("a", T2, 55);
+
+        SyncResultDto result = pushOne(delete("a", T3));
+
+        assertEquals(SyncResultDto.DUPLICATE, result.getStatus());
+        assertEquals(55L, result.getChangeSeq());
+    }
+
+    @Test
+    void upsertNotNewerThanTombstoneConflicts() {
+        tombstone("a", T2, 55);
+
+        SyncResultDto tie = pushOne(upsert("a", T2, 150));
+        assertEquals(SyncResultDto.CONFLICT, tie.getStatus());
+        assertEquals(SyncChangeRequestDto.DELETE, tie.getCurrent().getOp());
+
+        SyncResultDto older = pushOne(upsert("a", T1, 150));
+        assertEquals(SyncResultDto.CONFLICT, older.getStatus());
+    }
+
+    @Test
+    void upsertNewerThanTombstoneResurrectsRecord() {
+        tombstone("a", T2, 55);
+
+        SyncResultDto result = pushOne(upsert("a", T3, 150));
+
+        assertEquals(SyncResultDto.APPLIED, result.getStatus());
+        assertEquals(1, savedIntakes().size());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> cleared = ArgumentCaptor.forClass(List.class);
+        verify(changeLog).clearDeletes(eq(USER_ID), cleared.capture());
+        assertEquals(List.of("a"), cleared.getValue());
+    }
+
+    @Test
+    void resultsFollowRequestOrderAndOnlyAppliedChangesGetNumbers() {
+        storedIntake("dup", T2, 100, 42);
+        storedIntake("old", T3, 100, 43);
+
+        List<SyncResultDto> results = push(upsert("new-1", T1, 50), upsert("dup", T2, 100), upsert("old", T1, 999),
+                delete("gone", T1), upsert("new-2", T1, 70));
+
+        assertEquals(5, results.size());
+        assertEquals("new-1", results.get(0).getClientId());
+        assertEquals(SyncResultDto.APPLIED, results.get(0).getStatus());
+        assertEquals(FIRST_SEQ, results.get(0).getChangeSeq());
+        assertEquals(SyncResultDto.DUPLICATE, results.get(1).getStatus());
+        assertEquals(SyncResultDto.CONFLICT, results.get(2).getStatus());
+        assertEquals(SyncResultDto.APPLIED, results.get(3).getStatus());
+        assertEquals(FIRST_SEQ + 1, results.get(3).getChangeSeq());
+        assertEquals(SyncResultDto.APPLIED, results.get(4).getStatus());
+        assertEquals(FIRST_SEQ + 2, results.get(4).getChangeSeq());
+        assertNull(results.get(0).getCurrent());
+
+        verify(changeLog).reserve(USER_ID, 3);
+    }
+
+    @Test
+    void repeatedClientIdInBatchIsRejected() {
+        PushChangesRequestDto dto = new PushChangesRequestDto();
+        dto.setChanges(List.of(upsert("a", T1, 100), delete("a", T2)));
+
+        Object body = syncService.pushChanges(USER_ID, dto).getBody();
+
+        assertEquals(ResponseStatus.VALIDATION_FAILED, PreEncodedResponse.statusOf(body));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    void upsertWithoutRequiredFieldsIsRejected() {
+        SyncChangeRequestDto change = upsert("a", T1, 100);
+        change.setItem(" ");
+        PushChangesRequestDto dto = new PushChangesRequestDto();
+        dto.setChanges(List.of(change));
+
+        Object body = syncService.pushChanges(USER_ID, dto).getBody();
+
+        assertEquals(ResponseStatus.VALIDATION_FAILED, PreEncodedResponse.statusOf(body));
+    }
+
+    private SyncResultDto pushOne(SyncChangeRequestDto change) {
+        List<SyncResultDto> results = push(change);
+        assertEquals(1, results.size());
+        assertEquals(change.getClientId(), results.get(0).getClientId());
+        return results.get(0);
+    }
+
+    private List<SyncResultDto> push(SyncChangeRequestDto... changes) {
+        PushChangesRequestDto dto = new PushChangesRequestDto();
+        dto.setChanges(List.of(changes));
+
+        Object body = syncService.pushChanges(USER_ID, dto).getBody();
+        assertSame(PushChangesResponseDto.class, body.getClass());
+        return ((PushChangesResponseDto) body).getResults();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Intake> savedIntakes() {
+        ArgumentCaptor<List<Intake>> captor = ArgumentCaptor.forClass(List.class);
+        verify(intakeRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Intake> deletedIntakes() {
+        ArgumentCaptor<List<Intake>> captor = ArgumentCaptor.forClass(List.class);
+        verify(intakeRepository).deleteAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<IntakeChangeLog.Tombstone> recordedTombstones() {
+        ArgumentCaptor<List<IntakeChangeLog.Tombstone>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLog).recordDeletes(eq(USER_ID), captor.capture());
+        return captor.getValue();
+    }
+
+    private Intake storedIntake(String clientId, Instant modifiedAt, int caffeineAmount, long changeSeq) {
+        Intake intake = new Intake(USER_ID, upsert(clientId, modifiedAt, caffeineAmount));
+        intake.assignChangeSeq(changeSeq);
+        stored.add(intake);
+        return intake;
+    }
+
+    private void tombstone(String clientId, Instant modifiedAt, long changeSeq) {
+        IntakeTombstone tombstone = new IntakeTombstone();
+        ReflectionTestUtils.setField(tombstone, "userId", USER_ID);
+        ReflectionTestUtils.setField(tombstone, "clientId", clientId);
+        ReflectionTestUtils.setField(tombstone, "modifiedAt", modifiedAt);
+        ReflectionTestUtils.setField(tombstone, "changeSeq", changeSeq);
+        tombstones.add(tombstone);
+    }
+
+    private static SyncChangeRequestDto upsert(String clientId, Instant modifiedAt, int caffeineAmount) {
+        SyncChangeRequestDto change = new SyncChangeRequestDto();
+        change.setClientId(clientId);
+        change.setOp(SyncChangeRequestDto.UPSERT);
+        change.setModifiedAt(modifiedAt);
+        change.setTimestamp(T1);
+        change.setCategory("coffee");
+        change.setItem("americano");
+        change.setCaffeineAmount(caffeineAmount);
+        return change;
+    }
+
+    private static SyncChangeRequestDto delete(String clientId, Instant modifiedAt) {
+        SyncChangeRequestDto change = new SyncChangeRequestDto();
+        change.setClientId(clientId);
+        change.setOp(SyncChangeRequestDto.DELETE);
+        change.setModifiedAt(modifiedAt);
+        return change;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.caffein_addiction_app.token;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedTokenCacheTest {
+
+    private static TokenValidationResult validFor(int userId, long millis) {
+        return TokenValidationResult.valid(userId, System.currentTimeMillis() + millis);
+    }
+
+    @Test
+    void returnsCachedResult() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token-1", validFor(1, 60_000));
+
+        TokenValidationResult cached = cache.get("token-1");
+        assertNotNull(cached);
+        assertEquals(1, cached.getUserId());
+        assertNull(cache.get("token-2"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void expiredEntryIsMiss() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token-1", validFor(1, -1));
+
+        assertNull(cache.get("token-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void staysBoundedWhenFullOfLiveEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        for (int i = 0; i < 10_000; i++) cache.put("token-" + i, validFor(i, 60_000));
+
+        assertTrue(cache.size() <= 100);
+        //가득 차 있어도 새 토큰은 계속 캐시됨
+        assertNotNull(cache.get("token-9999"));
+    }
+
+    @Test
+    void frequentlyUsedTokenSurvivesRotation() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("hot", validFor(0, 60_000));
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("cold-" + i, validFor(i, 60_000));
+            assertNotNull(cache.get("hot"), "hot token evicted after " + i + " puts");
+        }
+    }
+}